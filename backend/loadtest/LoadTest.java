@@ -0,0 +1,446 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Open-loop HTTP load generator for the loan API (JDK only, no build needed):
+ *
+ *   java loadtest/LoadTest.java --base-url http://localhost:8080 --rate 200 --duration 120
+ *
+ * Requests are started on a fixed schedule regardless of how fast the server answers, and each
+ * latency is measured from the request's scheduled start, so a stalled server shows up as high
+ * percentiles instead of a lower request rate (no coordinated omission). When --max-in-flight
+ * requests are outstanding, further scheduled requests are counted as dropped, not delayed.
+ * Customers are the users created by SyntheticDataGenerator (loadtest-000001..).
+ *
+ * Options (defaults in brackets):
+ *   --base-url URL           [http://localhost:8080]
+ *   --rate N                 requests per second [100]
+ *   --duration S             measured seconds [60]
+ *   --warmup S               unmeasured seconds at the same rate [10]
+ *   --mix OP=W,...           weights of login, apply, list, approve [login=5,apply=20,list=60,approve=15]
+ *   --users N                generated customers to draw from [20000]
+ *   --sessions N             customers kept logged in for apply [200]
+ *   --password P             customer password [loadtest123]
+ *   --analyst USER:PASS      reviewer for list and approve [analyst:analyst123]
+ *   --max-in-flight N        [256]
+ *   --report-interval S      [10]
+ */
+public class LoadTest {
+
+    /** Operations in report order. */
+    enum Op { LOGIN, APPLY, LIST, APPROVE }
+
+    /** Pulls loan ids out of a list response without a JSON library. */
+    private static final Pattern LOAN_ID = Pattern.compile("\\{\"id\":(\\d+)");
+
+    /** Pulls the access token out of a login response. */
+    private static final Pattern TOKEN = Pattern.compile("\"token\":\"([^\"]+)\"");
+
+    /** Loan purposes offered by the application form. */
+    private static final String[] PURPOSES = {"HOME", "AUTO", "PERSONAL", "EDUCATION", "MEDICAL"};
+
+    /** Employment types accepted by the API. */
+    private static final String[] EMPLOYMENT = {"SALARIED", "SALARIED", "SALARIED", "SELF_EMPLOYED", "STUDENT", "OTHER"};
+
+    /** Pseudo-status: nothing to do (no session yet, empty approve queue); not counted. */
+    private static final int SKIPPED = 0;
+
+    /** Pseudo-status: not sent because --max-in-flight requests were outstanding. */
+    private static final int DROPPED = -1;
+
+    /** Pseudo-status: connection failure or timeout; counted as an error. */
+    private static final int FAILED = -2;
+
+    /** Upper bound on remembered SUBMITTED loan ids. */
+    private static final int APPROVE_BACKLOG = 10_000;
+
+    private final String baseUrl;
+    private final double rate;
+    private final int durationSeconds;
+    private final int warmupSeconds;
+    private final int[] mix = new int[Op.values().length];
+    private final int users;
+    private final String password;
+    private final String analystUser;
+    private final String analystPassword;
+    private final int reportIntervalSeconds;
+
+    /** Most requests outstanding at once. */
+    private final int maxInFlight;
+
+    /** Bounds outstanding requests; a failed tryAcquire is a drop. */
+    private final Semaphore inFlight;
+
+    /** Completes HTTP responses; the scheduler thread never blocks on them. */
+    private final ExecutorService executor;
+
+    private final HttpClient http;
+
+    /** Logged-in customers used for apply; slots are replaced by login and re-filled after 401. */
+    private final AtomicReferenceArray<String> sessions;
+
+    /** Reviewer token for list and approve. */
+    private volatile String analystToken;
+
+    /** SUBMITTED loan ids seen by list, waiting to be approved. */
+    private final ConcurrentLinkedDeque<Long> approvable = new ConcurrentLinkedDeque<>();
+
+    /** Whether results currently count (false during warmup). */
+    private volatile boolean measuring;
+
+    private final Stats[] total = new Stats[Op.values().length];
+    private volatile Stats[] interval = new Stats[Op.values().length];
+
+    LoadTest(Map<String, String> args) {
+        this.baseUrl = args.getOrDefault("base-url", "http://localhost:8080").replaceAll("/+$", "");
+        this.rate = Double.parseDouble(args.getOrDefault("rate", "100"));
+        this.durationSeconds = Integer.parseInt(args.getOrDefault("duration", "60"));
+        this.warmupSeconds = Integer.parseInt(args.getOrDefault("warmup", "10"));
+        this.users = Integer.parseInt(args.getOrDefault("users", "20000"));
+        this.password = args.getOrDefault("password", "loadtest123");
+        this.reportIntervalSeconds = Integer.parseInt(args.getOrDefault("report-interval", "10"));
+
+        String[] analyst = args.getOrDefault("analyst", "analyst:analyst123").split(":", 2);
+        this.analystUser = analyst[0];
+        this.analystPassword = analyst[1];
+
+        for (String part : args.getOrDefault("mix", "login=5,apply=20,list=60,approve=15").split(",")) {
+            String[] kv = part.split("=");
+            mix[Op.valueOf(kv[0].trim().toUpperCase(Locale.ROOT)).ordinal()] = Integer.parseInt(kv[1].trim());
+        }
+
+        this.maxInFlight = Integer.parseInt(args.getOrDefault("max-in-flight", "256"));
+        this.inFlight = new Semaphore(maxInFlight);
+        this.executor = Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors() * 2), r -> {
+            Thread t = new Thread(r, "loadtest-http");
+            t.setDaemon(true);
+            return t;
+        });
+        this.http = HttpClient.newBuilder()
+                .executor(executor)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.sessions = new AtomicReferenceArray<>(Integer.parseInt(args.getOrDefault("sessions", "200")));
+
+        for (Op op : Op.values()) {
+            total[op.ordinal()] = new Stats();
+            interval[op.ordinal()] = new Stats();
+        }
+    }
+
+    public static void main(String[] argv) throws Exception {
+        Map<String, String> args = new LinkedHashMap<>();
+        for (int i = 0; i < argv.length; i++) {
+            if (!argv[i].startsWith("--")) throw new IllegalArgumentException("Unexpected argument " + argv[i]);
+            String key = argv[i].substring(2);
+            if (key.contains("=")) {
+                args.put(key.substring(0, key.indexOf('=')), key.substring(key.indexOf('=') + 1));
+            } else {
+                args.put(key, argv[++i]);
+            }
+        }
+        new LoadTest(args).run();
+    }
+
+    void run() throws Exception {
+        System.out.printf("Logging in analyst and %d customers...%n", sessions.length());
+        analystToken = login(analystUser, analystPassword).join();
+        if (analystToken == null) throw new IllegalStateException("Analyst login failed");
+        List<CompletableFuture<Void>> logins = new ArrayList<>();
+        for (int i = 0; i < sessions.length(); i++) {
+            int slot = i;
+            logins.add(login(randomCustomer(), password).thenAccept(token -> sessions.set(slot, token)));
+        }
+        CompletableFuture.allOf(logins.toArray(CompletableFuture[]::new)).join();
+
+        System.out.printf("Warmup %ds, then %ds at %.0f req/s, mix %s%n", warmupSeconds, durationSeconds, rate, mixText());
+        long periodNanos = (long) (1_000_000_000L / rate);
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(durationSeconds);
+        long nextReport = measureFrom + TimeUnit.SECONDS.toNanos(reportIntervalSeconds);
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * periodNanos;
+            if (intended >= end) break;
+
+            if (!measuring && intended >= measureFrom) {
+                measuring = true;
+                resetInterval();
+            }
+            if (measuring && intended >= nextReport) {
+                report("t+" + TimeUnit.NANOSECONDS.toSeconds(intended - measureFrom) + "s", swapInterval(), reportIntervalSeconds);
+                nextReport += TimeUnit.SECONDS.toNanos(reportIntervalSeconds);
+            }
+
+            long wait = intended - System.nanoTime();
+            if (wait > 0) TimeUnit.NANOSECONDS.sleep(wait);
+
+            Op op = pick();
+            if (!inFlight.tryAcquire()) {
+                record(op, DROPPED, 0);
+                continue;
+            }
+            execute(op, intended).whenComplete((status, error) -> {
+                inFlight.release();
+                record(op, (error != null) ? FAILED : status, System.nanoTime() - intended);
+            });
+        }
+
+        long drainUntil = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (inFlight.availablePermits() < maxInFlight && System.nanoTime() < drainUntil) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+        report("total", total, durationSeconds);
+        executor.shutdownNow();
+    }
+
+    /** Runs one operation; completes with the HTTP status, or SKIPPED when no request was needed. */
+    private CompletableFuture<Integer> execute(Op op, long intended) {
+        switch (op) {
+            case LOGIN: {
+                int slot = ThreadLocalRandom.current().nextInt(sessions.length());
+                return send(post("/api/auth/login", credentials(randomCustomer(), password), null)).thenApply(res -> {
+                    Matcher m = TOKEN.matcher(res.body());
+                    if (res.statusCode() == 200 && m.find()) sessions.set(slot, m.group(1));
+                    return res.statusCode();
+                });
+            }
+            case APPLY: {
+                int slot = ThreadLocalRandom.current().nextInt(sessions.length());
+                String token = sessions.get(slot);
+                if (token == null) return relogin(slot).thenApply(x -> SKIPPED);
+                return send(post("/api/loans/apply", loanJson(), token)).thenApply(res -> {
+                    if (res.statusCode() == 401) relogin(slot);
+                    return res.statusCode();
+                });
+            }
+            case LIST: {
+                int page = ThreadLocalRandom.current().nextInt(5);
+                HttpRequest req = authorized(URI.create(baseUrl + "/api/loans?page=" + page + "&size=20&status=SUBMITTED"), analystToken)
+                        .GET().build();
+                return send(req).thenApply(res -> {
+                    if (res.statusCode() == 200) {
+                        Matcher m = LOAN_ID.matcher(res.body());
+                        while (m.find() && approvable.size() < APPROVE_BACKLOG) approvable.addLast(Long.parseLong(m.group(1)));
+                    } else if (res.statusCode() == 401) {
+                        reloginAnalyst();
+                    }
+                    return res.statusCode();
+                });
+            }
+            case APPROVE: {
+                Long id = approvable.pollFirst();
+                if (id == null) return CompletableFuture.completedFuture(SKIPPED);
+                HttpRequest req = authorized(URI.create(baseUrl + "/api/loans/" + id + "/approve"), analystToken)
+                        .method("PATCH", HttpRequest.BodyPublishers.noBody()).build();
+                return send(req).thenApply(res -> {
+                    if (res.statusCode() == 401) reloginAnalyst();
+                    return res.statusCode();
+                });
+            }
+            default:
+                throw new IllegalStateException(op.name());
+        }
+    }
+
+    private CompletableFuture<HttpResponse<String>> send(HttpRequest req) {
+        return http.sendAsync(req, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private CompletableFuture<String> login(String username, String pass) {
+        return send(post("/api/auth/login", credentials(username, pass), null)).thenApply(res -> {
+            Matcher m = TOKEN.matcher(res.body());
+            return (res.statusCode() == 200 && m.find()) ? m.group(1) : null;
+        }).exceptionally(e -> null);
+    }
+
+    /** Replaces an expired customer session (not measured). */
+    private CompletableFuture<Void> relogin(int slot) {
+        return login(randomCustomer(), password).thenAccept(token -> sessions.set(slot, token));
+    }
+
+    /** Renews the analyst token after it expires (not measured). */
+    private void reloginAnalyst() {
+        login(analystUser, analystPassword).thenAccept(token -> {
+            if (token != null) analystToken = token;
+        });
+    }
+
+    private HttpRequest post(String path, String json, String token) {
+        return authorized(URI.create(baseUrl + path), token)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private static HttpRequest.Builder authorized(URI uri, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30));
+        return (token == null) ? builder : builder.header("Authorization", "Bearer " + token);
+    }
+
+    private static String credentials(String username, String pass) {
+        return "{\"username\":\"" + username + "\",\"password\":\"" + pass + "\"}";
+    }
+
+    /** A plausible application; values roughly follow the generator's distributions. */
+    private static String loanJson() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long income = Math.round(5500 * Math.exp(random.nextGaussian() * 0.5));
+        long debt = Math.round(income * Math.pow(random.nextDouble(), 2) * 0.7);
+        long amount = Math.max(500, Math.round(income * (2 + random.nextDouble() * 18) / 100) * 100);
+        int credit = (int) Math.max(300, Math.min(850, Math.round(680 + random.nextGaussian() * 70)));
+        int[] tenures = {12, 24, 36, 48, 60, 84, 120};
+        return String.format(Locale.ROOT,
+                "{\"fullName\":\"Load Test\",\"amount\":%d,\"tenure\":%d,\"monthlyIncome\":%d,\"monthlyDebt\":%d,"
+                        + "\"creditScore\":%d,\"employmentType\":\"%s\",\"purpose\":\"%s\"}",
+                amount, tenures[random.nextInt(tenures.length)], income, debt, credit,
+                EMPLOYMENT[random.nextInt(EMPLOYMENT.length)], PURPOSES[random.nextInt(PURPOSES.length)]);
+    }
+
+    private String randomCustomer() {
+        return String.format("loadtest-%06d", 1 + ThreadLocalRandom.current().nextInt(users));
+    }
+
+    private Op pick() {
+        int sum = 0;
+        for (int w : mix) sum += w;
+        int r = ThreadLocalRandom.current().nextInt(sum);
+        for (Op op : Op.values()) {
+            r -= mix[op.ordinal()];
+            if (r < 0) return op;
+        }
+        return Op.LIST;
+    }
+
+    private String mixText() {
+        StringBuilder text = new StringBuilder();
+        for (Op op : Op.values()) text.append(text.length() == 0 ? "" : ",").append(op.name().toLowerCase(Locale.ROOT)).append('=').append(mix[op.ordinal()]);
+        return text.toString();
+    }
+
+    /** Records an HTTP status or one of SKIPPED, DROPPED, FAILED with the latency from the scheduled start. */
+    private void record(Op op, int status, long nanos) {
+        if (!measuring) return;
+        total[op.ordinal()].record(status, nanos);
+        interval[op.ordinal()].record(status, nanos);
+    }
+
+    private void resetInterval() {
+        Stats[] fresh = new Stats[Op.values().length];
+        for (int i = 0; i < fresh.length; i++) fresh[i] = new Stats();
+        interval = fresh;
+    }
+
+    private Stats[] swapInterval() {
+        Stats[] previous = interval;
+        resetInterval();
+        return previous;
+    }
+
+    private static void report(String label, Stats[] stats, int seconds) {
+        System.out.printf("%n[%s]%n%-8s %9s %8s %6s %6s %7s %8s %8s %8s %8s %8s%n", label,
+                "op", "ok", "errors", "503", "drops", "rps", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Op op : Op.values()) {
+            Stats s = stats[op.ordinal()];
+            Histogram h = s.latency;
+            System.out.printf(Locale.ROOT, "%-8s %9d %8d %6d %6d %7.1f %8.1f %8.1f %8.1f %8.1f %8.1f%n",
+                    op.name().toLowerCase(Locale.ROOT), s.ok(), s.errors(), s.unavailable(), s.dropped(),
+                    (double) h.count() / Math.max(1, seconds),
+                    h.percentile(50) / 1000.0, h.percentile(90) / 1000.0, h.percentile(99) / 1000.0,
+                    h.percentile(99.9) / 1000.0, h.max() / 1000.0);
+        }
+    }
+
+    /** Outcome counters and latency for one operation. */
+    static final class Stats {
+        private final AtomicLongArray counts = new AtomicLongArray(4);
+        final Histogram latency = new Histogram();
+
+        void record(int status, long nanos) {
+            if (status == SKIPPED) return;
+            if (status == DROPPED) {
+                counts.incrementAndGet(3);
+                return;
+            }
+            if (status >= 200 && status < 300 || status == 304) counts.incrementAndGet(0);
+            else if (status == 503) counts.incrementAndGet(2);
+            else counts.incrementAndGet(1);
+            latency.record(nanos / 1000);
+        }
+
+        long ok() { return counts.get(0); }
+        long errors() { return counts.get(1); }
+        long unavailable() { return counts.get(2); }
+        long dropped() { return counts.get(3); }
+    }
+
+    /**
+     * Log-linear latency histogram in microseconds: exact below 2048, above that 1024 buckets per
+     * power of two (under 0.1% relative error), up to about an hour.
+     */
+    static final class Histogram {
+        private static final int SUB_BITS = 10;
+        private static final int SUB = 1 << SUB_BITS;
+        private static final int MAX_EXP = 32;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(2 * SUB + (MAX_EXP - SUB_BITS - 1) * SUB);
+        private final AtomicLongArray summary = new AtomicLongArray(2);
+
+        void record(long micros) {
+            long value = Math.max(0, Math.min(micros, (1L << MAX_EXP) - 1));
+            buckets.incrementAndGet(index(value));
+            summary.incrementAndGet(0);
+            summary.accumulateAndGet(1, value, Math::max);
+        }
+
+        long count() { return summary.get(0); }
+        long max() { return summary.get(1); }
+
+        long percentile(double p) {
+            long n = count();
+            if (n == 0) return 0;
+            long rank = (long) Math.ceil(p / 100.0 * n);
+            long seen = 0;
+            for (int i = 0; i < buckets.length(); i++) {
+                seen += buckets.get(i);
+                if (seen >= rank) return Math.min(upperBound(i), max());
+            }
+            return max();
+        }
+
+        private static int index(long value) {
+            if (value < 2 * SUB) return (int) value;
+            int exp = 63 - Long.numberOfLeadingZeros(value);
+            int shift = exp - SUB_BITS;
+            return 2 * SUB + (exp - SUB_BITS - 1) * SUB + (int) ((value >>> shift) - SUB);
+        }
+
+        private static long upperBound(int index) {
+            if (index < 2 * SUB) return index;
+            int offset = index - 2 * SUB;
+            int exp = offset / SUB + SUB_BITS + 1;
+            int shift = exp - SUB_BITS;
+            return ((long) (SUB + offset % SUB + 1) << shift) - 1;
+        }
+    }
+}
@@ -2,13 +2,16 @@ package com.loanmanagementsystem.loanmanagementsystem.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 /**
  * Central configuration class for defining shared application beans.
+ * Also enables scheduled background tasks.
  */
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
     /**
@@ -0,0 +1,39 @@
+package com.loanmanagementsystem.loanmanagementsystem.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.cors.CorsConfigurationSource;
+
+/** Registers the adaptive concurrency limiter ahead of the Spring Security filter chain. */
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    /** Runs just before Spring Security (order -100) so shed requests never reach authentication. */
+    private static final int FILTER_ORDER = -110;
+
+    /** Limiter with one adaptive limit per API area. */
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(
+            CorsConfigurationSource corsConfigurationSource,
+            @Value("${app.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${app.concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${app.concurrency-limit.min-limit:4}") int minLimit,
+            @Value("${app.concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${app.concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${app.concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds
+    ) {
+        return new ConcurrencyLimitFilter(corsConfigurationSource, enabled,
+                initialLimit, minLimit, maxLimit, smoothing, retryAfterSeconds);
+    }
+
+    /** Explicit registration so the filter is ordered and not registered a second time. */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(ConcurrencyLimitFilter filter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(FILTER_ORDER);
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
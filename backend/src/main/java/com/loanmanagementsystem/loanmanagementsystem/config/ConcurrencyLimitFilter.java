@@ -0,0 +1,116 @@
+package com.loanmanagementsystem.loanmanagementsystem.config;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.CorsConfigurationSource;
+import org.springframework.web.cors.CorsProcessor;
+import org.springframework.web.cors.DefaultCorsProcessor;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.loanmanagementsystem.loanmanagementsystem.util.AdaptiveConcurrencyLimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sheds load before it reaches security and the controllers.
+ * Each API area has its own adaptive limit on in-flight requests, so slow loan queries cannot
+ * starve logins and vice versa. Requests over the limit get 503 with Retry-After immediately.
+ * Preflights and the long-lived event stream are not limited.
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    /** Long-lived stream; its duration says nothing about backend health. */
+    private static final String STREAM_PATH = "/api/loans/stream";
+
+    /** Limits by API base path. */
+    private final Map<String, AdaptiveConcurrencyLimit> limits = new LinkedHashMap<>();
+
+    /** Adds CORS headers to rejections so browsers can read the 503. */
+    private final CorsConfigurationSource corsConfigurationSource;
+
+    /** Applies the CORS configuration to a response. */
+    private final CorsProcessor corsProcessor = new DefaultCorsProcessor();
+
+    /** Whether limiting is active; when false the filter only passes requests through. */
+    private final boolean enabled;
+
+    /** Seconds clients are told to wait after a rejection. */
+    private final int retryAfterSeconds;
+
+    public ConcurrencyLimitFilter(CorsConfigurationSource corsConfigurationSource, boolean enabled,
+                                  int initialLimit, int minLimit, int maxLimit, double smoothing,
+                                  int retryAfterSeconds) {
+        this.corsConfigurationSource = corsConfigurationSource;
+        this.enabled = enabled;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        for (String base : new String[] {"/api/auth", "/api/loans", "/api/admin"}) {
+            limits.put(base, new AdaptiveConcurrencyLimit(initialLimit, minLimit, maxLimit, smoothing));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+                || "OPTIONS".equals(request.getMethod())
+                || STREAM_PATH.equals(request.getServletPath())
+                || limitFor(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimit limit = limitFor(request);
+
+        long start = limit.tryAcquire();
+        if (start < 0) {
+            reject(request, response);
+            return;
+        }
+
+        boolean failure = true;
+        try {
+            filterChain.doFilter(request, response);
+            failure = response.getStatus() >= 500;
+        } finally {
+            limit.release(start, failure);
+        }
+    }
+
+    /** Current limits and counters per API area. */
+    public Map<String, AdaptiveConcurrencyLimit.Stats> stats() {
+        Map<String, AdaptiveConcurrencyLimit.Stats> stats = new LinkedHashMap<>();
+        limits.forEach((base, limit) -> stats.put(base + "/**", limit.stats()));
+        return stats;
+    }
+
+    /** Limit for the request's API area, or null when the path is not limited. */
+    private AdaptiveConcurrencyLimit limitFor(HttpServletRequest request) {
+        String path = request.getServletPath();
+        for (Map.Entry<String, AdaptiveConcurrencyLimit> e : limits.entrySet()) {
+            String base = e.getKey();
+            if (path.equals(base) || path.startsWith(base + "/")) return e.getValue();
+        }
+        return null;
+    }
+
+    /** Writes a fast 503 without touching security, the database, or the controllers. */
+    private void reject(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        CorsConfiguration cors = corsConfigurationSource.getCorsConfiguration(request);
+        if (cors != null) corsProcessor.processRequest(cors, request, response);
+
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.getWriter().write("{\"status\":503,\"error\":\"Service Unavailable\",\"message\":\"Server is busy, retry shortly\"}");
+    }
+}
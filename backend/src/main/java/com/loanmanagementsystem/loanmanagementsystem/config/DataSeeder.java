@@ -1,5 +1,10 @@
 package com.loanmanagementsystem.loanmanagementsystem.config;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
@@ -18,34 +23,48 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class DataSeeder implements CommandLineRunner {
 
+    /** Default accounts created when missing. */
+    private static final List<SeedUser> SEED_USERS = List.of(
+            new SeedUser("admin", "admin123", UserRole.ADMIN),
+            new SeedUser("analyst", "analyst123", UserRole.ANALYST),
+            new SeedUser("customer", "customer123", UserRole.CUSTOMER)
+    );
+
     /** Repository for accessing and persisting User entities. */
     private final UserRepository userRepository;
 
     /** Encodes raw passwords before storing them. */
     private final PasswordEncoder passwordEncoder;
 
+    /** Turns seeding off entirely (checked at runtime so it also works with AOT builds). */
+    @Value("${app.seed.enabled:true}")
+    private boolean enabled;
+
     /**
      * Runs automatically during application startup.
-     * Creates default users only if they do not already exist.
+     * Checks all seed users in one query and only hashes passwords for missing ones.
      */
     @Override
     public void run(String... args) {
-        createUserIfMissing("admin", "admin123", UserRole.ADMIN);
-        createUserIfMissing("analyst", "analyst123", UserRole.ANALYST);
-        createUserIfMissing("customer", "customer123", UserRole.CUSTOMER);
-    }
+        if (!enabled) return;
 
-    /**
-     * Creates a user only when the username is not already present.
-     */
-    private void createUserIfMissing(String username, String rawPassword, UserRole role) {
-        if (userRepository.findByUsername(username).isPresent()) return;
+        Set<String> existing = userRepository.findExistingUsernames(
+                SEED_USERS.stream().map(SeedUser::username).toList());
 
-        User user = new User();
-        user.setUsername(username);
-        user.setPassword(passwordEncoder.encode(rawPassword));
-        user.setRole(role);
+        List<User> missing = new ArrayList<>();
+        for (SeedUser seed : SEED_USERS) {
+            if (existing.contains(seed.username())) continue;
 
-        userRepository.save(user);
+            User user = new User();
+            user.setUsername(seed.username());
+            user.setPassword(passwordEncoder.encode(seed.rawPassword()));
+            user.setRole(seed.role());
+            missing.add(user);
+        }
+
+        if (!missing.isEmpty()) userRepository.saveAll(missing);
     }
+
+    /** Default account definition. */
+    private record SeedUser(String username, String rawPassword, UserRole role) {}
 }
@@ -0,0 +1,87 @@
+package com.loanmanagementsystem.loanmanagementsystem.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Primary/replica connection pools behind a read/write routing datasource, plus a small separate
+ * primary pool for the decision audit writer.
+ * Without app.datasource.replica.url every connection goes to the primary.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /** Builds both pools and the router that chooses between them. */
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(
+            @Value("${spring.datasource.url}") String primaryUrl,
+            @Value("${spring.datasource.username:}") String primaryUsername,
+            @Value("${spring.datasource.password:}") String primaryPassword,
+            @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+            @Value("${app.datasource.primary.pool-size:10}") int primaryPoolSize,
+            @Value("${app.datasource.primary.fail-fast:true}") boolean primaryFailFast,
+            @Value("${app.datasource.replica.url:}") String replicaUrl,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword,
+            @Value("${app.datasource.replica.pool-size:10}") int replicaPoolSize,
+            @Value("${app.datasource.replica.max-lag-ms:5000}") long maxLagMs
+    ) {
+        DataSource primary = pool("primary", primaryUrl, primaryUsername, primaryPassword,
+                driverClassName, primaryPoolSize, false, primaryFailFast);
+
+        DataSource replica = replicaUrl.isBlank() ? null : pool("replica", replicaUrl, replicaUsername,
+                replicaPassword, driverClassName, replicaPoolSize, true, false);
+
+        return new ReplicaRoutingDataSource(primary, replica, maxLagMs);
+    }
+
+    /** Lazy proxy so routing happens after the transaction's read-only flag is set. */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    /**
+     * Primary pool reserved for the decision audit writer. SYNC decision requests wait for the
+     * writer while still holding their pooled connection; with its own pool the writer never
+     * queues behind them, so a busy main pool cannot stall the writes they wait for. Only
+     * injected by name.
+     */
+    @Bean(defaultCandidate = false)
+    public DataSource auditDataSource(
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${spring.datasource.driver-class-name:}") String driverClassName,
+            @Value("${app.audit.pool-size:1}") int poolSize,
+            @Value("${app.datasource.primary.fail-fast:true}") boolean failFast
+    ) {
+        return pool("audit", url, username, password, driverClassName, poolSize, false, failFast);
+    }
+
+    /** Creates a Hikari pool with the given settings; without failFast it starts even when the database is down. */
+    private static HikariDataSource pool(String name, String url, String username, String password,
+                                         String driverClassName, int size, boolean readOnly, boolean failFast) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(name);
+        config.setJdbcUrl(url);
+        config.setUsername(username);
+        config.setPassword(password);
+        if (!driverClassName.isBlank()) config.setDriverClassName(driverClassName);
+        config.setMaximumPoolSize(size);
+        config.setReadOnly(readOnly);
+        // Do not fail startup when the replica is down; routing falls back to the primary.
+        // A bad primary URL still fails startup, except in runs without a database (CDS training).
+        if (!failFast) config.setInitializationFailTimeout(-1);
+        return new HikariDataSource(config);
+    }
+}
@@ -0,0 +1,150 @@
+package com.loanmanagementsystem.loanmanagementsystem.config;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Development stand-in for replication (replica-local profile only): copies every table of the
+ * embedded primary into a separate embedded replica database at a fixed interval. Reads routed to
+ * the replica therefore see data up to one interval old, the lag query reports the snapshot age,
+ * and pausing the copy (a long interval) pushes the replica past max-lag-ms so routing falls back.
+ * Each copy is one replica transaction, so readers never see a half-copied snapshot.
+ */
+@Slf4j
+@Component
+public class LocalReplicaSync {
+
+    /** Replica-side table holding the time of the last completed copy. */
+    private static final String SYNC_TABLE = "REPLICA_SYNC";
+
+    /** Whether to copy at all (checked at runtime). */
+    private final boolean enabled;
+
+    /** Primary JDBC URL. */
+    private final String primaryUrl;
+
+    /** Primary user. */
+    private final String primaryUsername;
+
+    /** Primary password. */
+    private final String primaryPassword;
+
+    /** Replica JDBC URL. */
+    private final String replicaUrl;
+
+    /** Replica user. */
+    private final String replicaUsername;
+
+    /** Replica password. */
+    private final String replicaPassword;
+
+    /** Tables copied on each run; filled when the replica schema is created. */
+    private List<String> tables;
+
+    public LocalReplicaSync(
+            @Value("${app.datasource.replica.local-sync.enabled:false}") boolean enabled,
+            @Value("${spring.datasource.url}") String primaryUrl,
+            @Value("${spring.datasource.username:}") String primaryUsername,
+            @Value("${spring.datasource.password:}") String primaryPassword,
+            @Value("${app.datasource.replica.url:}") String replicaUrl,
+            @Value("${app.datasource.replica.username:${spring.datasource.username:}}") String replicaUsername,
+            @Value("${app.datasource.replica.password:${spring.datasource.password:}}") String replicaPassword
+    ) {
+        this.enabled = enabled && !replicaUrl.isBlank();
+        this.primaryUrl = primaryUrl;
+        this.primaryUsername = primaryUsername;
+        this.primaryPassword = primaryPassword;
+        this.replicaUrl = replicaUrl;
+        this.replicaUsername = replicaUsername;
+        this.replicaPassword = replicaPassword;
+    }
+
+    /** Copies the primary into the replica; the first run also creates the replica schema. */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.local-sync.interval-ms:1000}")
+    public synchronized void sync() {
+        if (!enabled) return;
+
+        try (Connection primary = DriverManager.getConnection(primaryUrl, primaryUsername, primaryPassword);
+             Connection replica = DriverManager.getConnection(replicaUrl, replicaUsername, replicaPassword)) {
+            if (tables == null) tables = createSchema(primary, replica);
+
+            replica.setAutoCommit(false);
+            try {
+                for (String table : tables) copy(primary, replica, table);
+                try (Statement st = replica.createStatement()) {
+                    st.executeUpdate("UPDATE " + SYNC_TABLE + " SET SYNCED_AT = CURRENT_TIMESTAMP");
+                }
+                replica.commit();
+            } catch (SQLException e) {
+                replica.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            log.warn("Local replica copy failed: {}", e.getMessage());
+        }
+    }
+
+    /** Recreates the primary's tables (without data or foreign keys enforced) in the replica. */
+    private List<String> createSchema(Connection primary, Connection replica) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (Statement src = primary.createStatement();
+             ResultSet rs = src.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                     + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE'")) {
+            while (rs.next()) names.add(rs.getString(1));
+        }
+
+        try (Statement src = primary.createStatement();
+             ResultSet script = src.executeQuery("SCRIPT NODATA");
+             Statement dst = replica.createStatement()) {
+            while (script.next()) {
+                String statement = script.getString(1);
+                if (!statement.startsWith("--")) dst.execute(statement);
+            }
+            // Tables are refilled one at a time inside a single transaction.
+            dst.execute("SET REFERENTIAL_INTEGRITY FALSE");
+            dst.execute("CREATE TABLE " + SYNC_TABLE + " (SYNCED_AT TIMESTAMP NOT NULL)");
+            dst.execute("INSERT INTO " + SYNC_TABLE + " VALUES (CURRENT_TIMESTAMP)");
+        }
+        log.info("Local replica schema created with {} tables", names.size());
+        return names;
+    }
+
+    /** Replaces one replica table's rows with the primary's. */
+    private static void copy(Connection primary, Connection replica, String table) throws SQLException {
+        String quoted = "\"" + table + "\"";
+        try (Statement dst = replica.createStatement()) {
+            dst.executeUpdate("DELETE FROM " + quoted);
+        }
+
+        try (Statement src = primary.createStatement();
+             ResultSet rows = src.executeQuery("SELECT * FROM " + quoted)) {
+            ResultSetMetaData meta = rows.getMetaData();
+            int columns = meta.getColumnCount();
+
+            StringBuilder sql = new StringBuilder("INSERT INTO ").append(quoted).append(" (");
+            for (int i = 1; i <= columns; i++) sql.append(i > 1 ? ", " : "").append('"').append(meta.getColumnName(i)).append('"');
+            sql.append(") VALUES (").append("?, ".repeat(columns - 1)).append("?)");
+
+            try (PreparedStatement insert = replica.prepareStatement(sql.toString())) {
+                while (rows.next()) {
+                    for (int i = 1; i <= columns; i++) insert.setObject(i, rows.getObject(i));
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+        }
+    }
+}
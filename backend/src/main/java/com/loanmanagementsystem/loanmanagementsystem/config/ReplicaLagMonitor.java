@@ -0,0 +1,57 @@
+package com.loanmanagementsystem.loanmanagementsystem.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/** Periodically measures replica health and lag and feeds the result to the router. */
+@Slf4j
+@Component
+public class ReplicaLagMonitor {
+
+    /**
+     * Replay delay in milliseconds, or 0 once everything received has been replayed: the replay
+     * timestamp alone keeps ageing while the primary is idle, which would mark a caught-up replica
+     * as lagging.
+     */
+    private static final String DEFAULT_LAG_QUERY = """
+            SELECT CASE
+                WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE COALESCE(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) * 1000, 0)
+            END
+            """;
+
+    /** Router whose replica is being monitored. */
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    /** Query returning replication lag in milliseconds. */
+    private final String lagQuery;
+
+    public ReplicaLagMonitor(
+            ReplicaRoutingDataSource routingDataSource,
+            @Value("${app.datasource.replica.lag-query:}") String lagQuery
+    ) {
+        this.routingDataSource = routingDataSource;
+        this.lagQuery = lagQuery.isBlank() ? DEFAULT_LAG_QUERY : lagQuery;
+    }
+
+    /** Runs the lag query against the replica; any failure marks it unhealthy. */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval-ms:5000}")
+    public void check() {
+        DataSource replica = routingDataSource.getReplica();
+        if (replica == null) return;
+
+        try {
+            Number lag = new JdbcTemplate(replica).queryForObject(lagQuery, Number.class);
+            routingDataSource.recordHealthCheck(true, lag == null ? 0 : lag.longValue());
+        } catch (RuntimeException e) {
+            log.warn("Replica health check failed: {}", e.getMessage());
+            routingDataSource.recordHealthCheck(false, -1);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.loanmanagementsystem.loanmanagementsystem.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends connections for read-only transactions to a replica and everything else to the primary.
+ * Falls back to the primary when the replica is unreachable or lagging beyond the configured limit.
+ * Must sit behind a LazyConnectionDataSourceProxy so the read-only flag is known when routing.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /** Read-write pool. */
+    private final DataSource primary;
+
+    /** Read-only pool; null when no replica is configured. */
+    private final DataSource replica;
+
+    /** Replicas lagging more than this are bypassed. */
+    private final long maxLagMs;
+
+    /** False after a replica connection failure until the next successful health check. */
+    private volatile boolean replicaHealthy = true;
+
+    /** Last measured replication lag in milliseconds (-1 before the first check). */
+    private volatile long replicaLagMs = -1;
+
+    /** Connections handed out from the primary. */
+    private final AtomicLong primaryConnections = new AtomicLong();
+
+    /** Connections handed out from the replica. */
+    private final AtomicLong replicaConnections = new AtomicLong();
+
+    /** Read-only requests that were sent to the primary because the replica was unusable. */
+    private final AtomicLong fallbacks = new AtomicLong();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long maxLagMs) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMs = maxLagMs;
+    }
+
+    /** Routes by the current transaction's read-only flag. */
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (replica != null && TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (replicaUsable()) {
+                try {
+                    Connection con = replica.getConnection();
+                    replicaConnections.incrementAndGet();
+                    return con;
+                } catch (SQLException e) {
+                    log.warn("Replica connection failed, falling back to primary: {}", e.getMessage());
+                    replicaHealthy = false;
+                }
+            }
+            fallbacks.incrementAndGet();
+        }
+
+        Connection con = primary.getConnection();
+        primaryConnections.incrementAndGet();
+        return con;
+    }
+
+    /** Explicit credentials bypass routing and go to the primary. */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Connection con = primary.getConnection(username, password);
+        primaryConnections.incrementAndGet();
+        return con;
+    }
+
+    /** True when a replica is configured, reachable, and within the lag limit. */
+    private boolean replicaUsable() {
+        return replicaHealthy && replicaLagMs <= maxLagMs;
+    }
+
+    /** Replica pool, for health checks; null when not configured. */
+    public DataSource getReplica() {
+        return replica;
+    }
+
+    /** Records the outcome of a replica health/lag check. */
+    public void recordHealthCheck(boolean healthy, long lagMs) {
+        this.replicaHealthy = healthy;
+        this.replicaLagMs = lagMs;
+    }
+
+    /** Closes the underlying pools on shutdown. */
+    @Override
+    public void close() throws Exception {
+        if (replica instanceof AutoCloseable c) c.close();
+        if (primary instanceof AutoCloseable c) c.close();
+    }
+
+    /** Point-in-time routing metrics. */
+    public RoutingStats stats() {
+        return new RoutingStats(
+                replica != null,
+                replica != null && replicaUsable(),
+                replicaLagMs,
+                maxLagMs,
+                primaryConnections.get(),
+                replicaConnections.get(),
+                fallbacks.get()
+        );
+    }
+
+    /** Routing metrics exposed to admins. */
+    public record RoutingStats(
+            boolean replicaConfigured,
+            boolean replicaInUse,
+            long replicaLagMs,
+            long maxLagMs,
+            long primaryConnections,
+            long replicaConnections,
+            long fallbacks
+    ) {}
+}
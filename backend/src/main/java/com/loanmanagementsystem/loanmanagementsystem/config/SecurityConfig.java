@@ -5,10 +5,12 @@ import java.util.List;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -16,6 +18,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.loanmanagementsystem.loanmanagementsystem.security.JwtAuthFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 /** Spring Security setup: JWT auth, stateless sessions, API access rules, and CORS. */
@@ -34,12 +37,19 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .csrf(csrf -> csrf.disable())
             .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            // Missing/expired tokens get 401 (not 403) so clients know to refresh.
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED)))
             .authorizeHttpRequests(auth -> auth
+                // Async dispatches complete already-authorized requests (e.g. SSE streams) and carry no token.
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .requestMatchers(HttpMethod.PATCH, "/api/loans/*/approve").hasAnyRole("ANALYST", "ADMIN")
                 .requestMatchers(HttpMethod.PATCH, "/api/loans/*/reject").hasAnyRole("ANALYST", "ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/loans").hasAnyRole("ANALYST", "ADMIN")
+                .requestMatchers(HttpMethod.GET, "/api/loans/*/audit").hasAnyRole("ANALYST", "ADMIN")
+                .requestMatchers("/api/loans/queue/**").hasAnyRole("ANALYST", "ADMIN")
                 .requestMatchers("/api/**").authenticated()
                 .anyRequest().permitAll()
             )
@@ -0,0 +1,315 @@
+package com.loanmanagementsystem.loanmanagementsystem.config;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.loanmanagementsystem.loanmanagementsystem.dto.LoanRequest;
+import com.loanmanagementsystem.loanmanagementsystem.entity.EligibilityDecision;
+import com.loanmanagementsystem.loanmanagementsystem.entity.EmploymentType;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
+import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityService;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityService.EligibilityResult;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bulk-loads synthetic customers and loan applications for scale and load testing (Postgres only).
+ * Rows are streamed with COPY in chunks; every generated customer shares one BCrypt hash, so
+ * tens of thousands of users cost a single hash. Loans are scored with the live eligibility rules,
+ * so dti, risk, decision and rate are consistent with what the API would have stored.
+ * Re-running tops up to the configured counts instead of duplicating data.
+ */
+@Slf4j
+@Component
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    /** Prefix of generated usernames; the load-test harness logs in as these. */
+    public static final String USERNAME_PREFIX = "loadtest-";
+
+    /** Timestamp format accepted by COPY. */
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    /** Flush the COPY buffer at about this size. */
+    private static final int BUFFER_CHARS = 1 << 18;
+
+    /** First names for generated applicants. */
+    private static final List<String> FIRST_NAMES = List.of(
+            "Aarav", "Maya", "Liam", "Sofia", "Noah", "Aisha", "Ethan", "Priya", "Lucas", "Chloe",
+            "Omar", "Hana", "Mateo", "Zara", "Arjun", "Elena", "Kwame", "Yuki", "Daniel", "Fatima");
+
+    /** Last names for generated applicants. */
+    private static final List<String> LAST_NAMES = List.of(
+            "Sharma", "Smith", "Garcia", "Chen", "Okafor", "Müller", "Rossi", "Khan", "Silva", "Kim",
+            "Patel", "Johnson", "Nguyen", "Haddad", "Novak", "Tanaka", "Brown", "Mensah", "Lopez", "Ivanova");
+
+    /** Loan purposes offered by the application form. */
+    private static final List<String> PURPOSES = List.of("HOME", "AUTO", "PERSONAL", "EDUCATION", "MEDICAL");
+
+    /** Common tenures in months. */
+    private static final int[] TENURES = {12, 24, 36, 48, 60, 84, 120};
+
+    /** Raw connections for COPY. */
+    private final DataSource dataSource;
+
+    /** Counts and id lookups. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Hashes the shared password once. */
+    private final PasswordEncoder passwordEncoder;
+
+    /** Scores generated applications. */
+    private final EligibilityService eligibilityService;
+
+    /** Whether to generate at startup (checked at runtime so it also works with AOT builds). */
+    private final boolean enabled;
+
+    /** Target number of generated customers. */
+    private final int users;
+
+    /** Target number of rows in loan_application. */
+    private final long loans;
+
+    /** Loans are spread over this many days before now. */
+    private final int historyDays;
+
+    /** Password of every generated customer. */
+    private final String password;
+
+    /** Random seed, so runs are reproducible. */
+    private final long seed;
+
+    /** Rows per COPY statement (each commits on its own). */
+    private final int chunkRows;
+
+    public SyntheticDataGenerator(
+            DataSource dataSource,
+            PasswordEncoder passwordEncoder,
+            EligibilityService eligibilityService,
+            @Value("${app.generate.enabled:false}") boolean enabled,
+            @Value("${app.generate.users:20000}") int users,
+            @Value("${app.generate.loans:2000000}") long loans,
+            @Value("${app.generate.history-days:365}") int historyDays,
+            @Value("${app.generate.password:loadtest123}") String password,
+            @Value("${app.generate.seed:42}") long seed,
+            @Value("${app.generate.chunk-rows:100000}") int chunkRows
+    ) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.passwordEncoder = passwordEncoder;
+        this.eligibilityService = eligibilityService;
+        this.enabled = enabled;
+        this.users = users;
+        this.loans = loans;
+        this.historyDays = historyDays;
+        this.password = password;
+        this.seed = seed;
+        this.chunkRows = chunkRows;
+    }
+
+    /** Tops up users and loans, then refreshes planner statistics. */
+    @Override
+    public void run(String... args) throws Exception {
+        if (!enabled) return;
+
+        try (Connection con = dataSource.getConnection()) {
+            CopyManager copy = con.unwrap(PGConnection.class).getCopyAPI();
+
+            generateUsers(copy);
+            long[] userIds = jdbcTemplate.queryForList(
+                    "select id from users where username like ? order by id", Long.class, USERNAME_PREFIX + "%")
+                    .stream().mapToLong(Long::longValue).toArray();
+            if (userIds.length > 0) generateLoans(copy, userIds);
+
+            try (Statement st = con.createStatement()) {
+                st.execute("analyze users");
+                st.execute("analyze loan_application");
+            }
+        }
+    }
+
+    /** Adds customers loadtest-000001.. up to the target count. */
+    private void generateUsers(CopyManager copy) throws SQLException {
+        Integer existing = jdbcTemplate.queryForObject(
+                "select count(*) from users where username like ?", Integer.class, USERNAME_PREFIX + "%");
+        int from = (existing == null) ? 0 : existing;
+        if (from >= users) return;
+
+        String hash = passwordEncoder.encode(password);
+        long started = System.nanoTime();
+
+        StringBuilder rows = new StringBuilder(BUFFER_CHARS + 256);
+        CopyIn in = copy.copyIn("copy users (username, password, role, active) from stdin with (format csv)");
+        try {
+            for (int i = from + 1; i <= users; i++) {
+                rows.append(username(i)).append(',').append(hash).append(',')
+                        .append(UserRole.CUSTOMER.name()).append(",true\n");
+                if (rows.length() >= BUFFER_CHARS) flush(in, rows);
+            }
+            flush(in, rows);
+            in.endCopy();
+        } finally {
+            if (in.isActive()) in.cancelCopy();
+        }
+
+        log.info("Generated {} users in {} ms (password '{}')", users - from, elapsedMs(started), password);
+    }
+
+    /** Adds loan applications until the table holds the target count. */
+    private void generateLoans(CopyManager copy, long[] userIds) throws SQLException {
+        Long existing = jdbcTemplate.queryForObject("select count(*) from loan_application", Long.class);
+        long remaining = loans - ((existing == null) ? 0 : existing);
+        if (remaining <= 0) return;
+
+        SplittableRandom random = new SplittableRandom(seed ^ remaining);
+        LocalDateTime now = LocalDateTime.now();
+        long started = System.nanoTime();
+        long written = 0;
+
+        StringBuilder rows = new StringBuilder(BUFFER_CHARS + 512);
+        while (written < remaining) {
+            long chunk = Math.min(chunkRows, remaining - written);
+            CopyIn in = copy.copyIn("""
+                    copy loan_application (amount, interest_rate, tenure, status, created_at, full_name,
+                        monthly_income, monthly_debt, credit_score, employment_type, purpose, dti,
+                        risk_score, eligibility_decision, user_id)
+                    from stdin with (format csv)
+                    """);
+            try {
+                for (long i = 0; i < chunk; i++) {
+                    appendLoan(rows, random, now, userIds[random.nextInt(userIds.length)]);
+                    if (rows.length() >= BUFFER_CHARS) flush(in, rows);
+                }
+                flush(in, rows);
+                in.endCopy();
+            } finally {
+                if (in.isActive()) in.cancelCopy();
+            }
+
+            written += chunk;
+            long ms = Math.max(1, elapsedMs(started));
+            log.info("Generated {}/{} loan applications ({} rows/s)", written, remaining, written * 1000 / ms);
+        }
+    }
+
+    /** One realistic application: scored with the live rules, older ones mostly decided. */
+    private void appendLoan(StringBuilder rows, SplittableRandom random, LocalDateTime now, long userId) {
+        EmploymentType employment = employment(random);
+        int creditScore = (int) Math.max(300, Math.min(850, Math.round(680 + gaussian(random) * 70)));
+        BigDecimal income = money(monthlyIncome(employment, random));
+        BigDecimal debt = money(income.doubleValue() * Math.pow(random.nextDouble(), 2) * 0.7);
+        BigDecimal amount = BigDecimal.valueOf(Math.max(500, Math.round(income.doubleValue() * (2 + random.nextDouble() * 18) / 100) * 100))
+                .setScale(2, RoundingMode.HALF_UP);
+
+        LoanRequest req = new LoanRequest();
+        req.setAmount(amount);
+        req.setMonthlyIncome(income);
+        req.setMonthlyDebt(debt);
+        req.setCreditScore(creditScore);
+        req.setEmploymentType(employment.name());
+        EligibilityResult eval = eligibilityService.evaluate(req);
+
+        LocalDateTime createdAt = now.minusSeconds(random.nextLong((long) historyDays * 86_400));
+        LoanStatus status = status(eval.decision(), now.minusDays(14).isAfter(createdAt), random);
+
+        rows.append(amount.toPlainString()).append(',')
+            .append(eval.recommendedRate()).append(',')
+            .append(TENURES[random.nextInt(TENURES.length)]).append(',')
+            .append(status.code()).append(',')
+            .append(TIMESTAMP.format(createdAt)).append(',')
+            .append(FIRST_NAMES.get(random.nextInt(FIRST_NAMES.size()))).append(' ')
+            .append(LAST_NAMES.get(random.nextInt(LAST_NAMES.size()))).append(',')
+            .append(income.toPlainString()).append(',')
+            .append(debt.toPlainString()).append(',')
+            .append(creditScore).append(',')
+            .append(employment.code()).append(',')
+            .append(PURPOSES.get(random.nextInt(PURPOSES.size()))).append(',')
+            .append(Math.round(eval.dti() * 10_000) / 10_000.0).append(',')
+            .append(eval.riskScore()).append(',')
+            .append(eval.decision().code()).append(',')
+            .append(userId).append('\n');
+    }
+
+    /** Workforce mix: mostly salaried. */
+    private static EmploymentType employment(SplittableRandom random) {
+        int p = random.nextInt(100);
+        if (p < 60) return EmploymentType.SALARIED;
+        if (p < 80) return EmploymentType.SELF_EMPLOYED;
+        if (p < 87) return EmploymentType.STUDENT;
+        if (p < 92) return EmploymentType.UNEMPLOYED;
+        return EmploymentType.OTHER;
+    }
+
+    /** Log-normal income around a per-employment median. */
+    private static double monthlyIncome(EmploymentType employment, SplittableRandom random) {
+        double median = switch (employment) {
+            case SALARIED -> 5500;
+            case SELF_EMPLOYED -> 6000;
+            case STUDENT -> 1200;
+            case UNEMPLOYED -> 400;
+            case OTHER -> 3000;
+        };
+        double sigma = (employment == EmploymentType.SELF_EMPLOYED) ? 0.8 : 0.5;
+        return median * Math.exp(gaussian(random) * sigma);
+    }
+
+    /** Decided loans follow the eligibility decision; recent ones are mostly still open. */
+    private static LoanStatus status(EligibilityDecision decision, boolean old, SplittableRandom random) {
+        if (!old && random.nextInt(100) < 70) return LoanStatus.SUBMITTED;
+
+        int approvePercent = switch (decision) {
+            case ELIGIBLE -> 90;
+            case REVIEW -> 50;
+            case REJECT -> 5;
+        };
+        return (random.nextInt(100) < approvePercent) ? LoanStatus.APPROVED : LoanStatus.REJECTED;
+    }
+
+    /** Standard normal sample (Box-Muller; SplittableRandom has no nextGaussian). */
+    private static double gaussian(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * random.nextDouble());
+    }
+
+    /** Rounds to cents. */
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /** Generated username for an index. */
+    public static String username(int index) {
+        return String.format("%s%06d", USERNAME_PREFIX, index);
+    }
+
+    /** Sends buffered rows to the open COPY. */
+    private static void flush(CopyIn in, StringBuilder rows) throws SQLException {
+        if (rows.isEmpty()) return;
+        byte[] bytes = rows.toString().getBytes(StandardCharsets.UTF_8);
+        in.writeToCopy(bytes, 0, bytes.length);
+        rows.setLength(0);
+    }
+
+    /** Milliseconds since a nanoTime start. */
+    private static long elapsedMs(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+}
@@ -0,0 +1,66 @@
+package com.loanmanagementsystem.loanmanagementsystem.config;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/** MVC customizations: binary response formats for bulk endpoints. */
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    /** CBOR media type (RFC 8949). */
+    public static final String APPLICATION_CBOR = "application/cbor";
+
+    /** Jackson Smile binary JSON media type. */
+    public static final String APPLICATION_SMILE = "application/x-jackson-smile";
+
+    /** Types the bulk endpoints can produce, in server preference order. */
+    private static final List<MediaType> BULK_TYPES = List.of(
+        MediaType.APPLICATION_JSON, MediaType.parseMediaType(APPLICATION_CBOR), MediaType.parseMediaType(APPLICATION_SMILE));
+
+    /**
+     * Returns the type a bulk endpoint answers with for the given Accept header: the first
+     * producible type matching the highest-quality accepted range, or JSON when there is none.
+     * Conditional GETs put it in the ETag, since each representation needs its own validator.
+     */
+    public static MediaType negotiatedType(String accept) {
+        if (accept == null || accept.isBlank()) return MediaType.APPLICATION_JSON;
+
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_JSON;
+        }
+        accepted.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType range : accepted) {
+            if (range.getQualityValue() == 0) break;
+            for (MediaType type : BULK_TYPES) {
+                if (range.includes(type)) return type;
+            }
+        }
+        return MediaType.APPLICATION_JSON;
+    }
+
+    /**
+     * Registers CBOR and Smile converters after JSON, so JSON stays the default and
+     * binary is only used when a client asks for it via the Accept header.
+     */
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        if (converters.stream().noneMatch(JacksonCborHttpMessageConverter.class::isInstance)) {
+            converters.add(new JacksonCborHttpMessageConverter());
+        }
+        if (converters.stream().noneMatch(JacksonSmileHttpMessageConverter.class::isInstance)) {
+            converters.add(new JacksonSmileHttpMessageConverter());
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.loanmanagementsystem.loanmanagementsystem.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanAutoDecisionService;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanAutoDecisionService.AutoDecisionRun;
+
+import lombok.RequiredArgsConstructor;
+
+/** Admin view of the auto-decision worker: recent run reports and manual runs. */
+@RestController
+@RequestMapping("/api/admin/auto-decisions")
+@RequiredArgsConstructor
+public class AdminAutoDecisionController {
+
+    /** Auto-decision worker. */
+    private final LoanAutoDecisionService autoDecisionService;
+
+    /** Returns the most recent run reports, newest first. */
+    @GetMapping
+    public List<AutoDecisionRun> recentRuns() {
+        return autoDecisionService.recentRuns();
+    }
+
+    /** Runs one pass now and returns its report. */
+    @PostMapping("/run")
+    public AutoDecisionRun run() {
+        return autoDecisionService.runOnce("manual")
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.CONFLICT, "An auto-decision run is already in progress"));
+    }
+}
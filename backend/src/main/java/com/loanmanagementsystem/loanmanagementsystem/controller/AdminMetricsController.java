@@ -1,13 +1,25 @@
 package com.loanmanagementsystem.loanmanagementsystem.controller;
 
+import java.util.Map;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
-import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
-import com.loanmanagementsystem.loanmanagementsystem.repository.LoanRepository;
-import com.loanmanagementsystem.loanmanagementsystem.repository.UserRepository;
+import com.loanmanagementsystem.loanmanagementsystem.config.ConcurrencyLimitFilter;
+import com.loanmanagementsystem.loanmanagementsystem.config.ReplicaRoutingDataSource;
+import com.loanmanagementsystem.loanmanagementsystem.service.AdminQueryService;
+import com.loanmanagementsystem.loanmanagementsystem.service.ChangeVersionService;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanAuditService;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanEventStreamService;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanSubmissionJournal;
+import com.loanmanagementsystem.loanmanagementsystem.util.AdaptiveConcurrencyLimit;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 /** Exposes high-level system metrics for admin dashboards and monitoring. */
@@ -16,21 +28,75 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdminMetricsController {
 
-    /** Access to user-related metrics. */
-    private final UserRepository userRepository;
+    /** User and loan counts (read-only, replica-eligible). */
+    private final AdminQueryService adminQueryService;
+
+    /** Read/write routing datasource, for replica metrics. */
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    /** Decision audit writer, for its queue metrics. */
+    private final LoanAuditService loanAuditService;
+
+    /** Live loan event streams, for subscriber metrics. */
+    private final LoanEventStreamService loanEventStreamService;
 
-    /** Access to loan-related metrics. */
-    private final LoanRepository loanRepository;
+    /** Write-behind journal, for its backlog metrics. */
+    private final LoanSubmissionJournal loanSubmissionJournal;
 
-    /** Returns aggregated counts for users and loan applications. */
+    /** Request limiter, for its per-area limits and rejections. */
+    private final ConcurrencyLimitFilter concurrencyLimitFilter;
+
+    /** User/loan versions used for conditional GETs. */
+    private final ChangeVersionService changeVersionService;
+
+    /**
+     * Returns aggregated counts for users and loan applications, or 304 when nothing changed.
+     * The loan count covers the hot table unless includeArchived=true.
+     */
     @GetMapping("/metrics")
-    public AdminMetricsResponse metrics() {
-        long customers = userRepository.countByRole(UserRole.CUSTOMER);
-        long analysts  = userRepository.countByRole(UserRole.ANALYST);
-        long admins    = userRepository.countByRole(UserRole.ADMIN);
-        long loans     = loanRepository.count();
+    public AdminMetricsResponse metrics(
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest webRequest,
+            HttpServletResponse response
+    ) {
+        var version = changeVersionService.metricsVersion();
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        if (webRequest.checkNotModified(version.etag(includeArchived), version.lastModified())) {
+            return null;
+        }
+
+        var counts = adminQueryService.counts(includeArchived);
+        return new AdminMetricsResponse(counts.customers(), counts.analysts(), counts.admins(), counts.loans());
+    }
+
+    /** Returns replica routing counters, health, and replication lag. */
+    @GetMapping("/metrics/datasource")
+    public ReplicaRoutingDataSource.RoutingStats datasource() {
+        return routingDataSource.stats();
+    }
+
+    /** Returns decision audit writer metrics (queue depth, batches, failures). */
+    @GetMapping("/metrics/audit")
+    public LoanAuditService.AuditStats audit() {
+        return loanAuditService.stats();
+    }
+
+    /** Returns live stream metrics (open streams, deliveries, slow-consumer disconnects). */
+    @GetMapping("/metrics/stream")
+    public LoanEventStreamService.StreamStats stream() {
+        return loanEventStreamService.stats();
+    }
+
+    /** Returns write-behind journal metrics (pending submissions, persisted, failed batches). */
+    @GetMapping("/metrics/journal")
+    public LoanSubmissionJournal.JournalStats journal() {
+        return loanSubmissionJournal.stats();
+    }
 
-        return new AdminMetricsResponse(customers, analysts, admins, loans);
+    /** Returns adaptive concurrency limits per API area (current limit, in flight, rejections, latency). */
+    @GetMapping("/metrics/concurrency")
+    public Map<String, AdaptiveConcurrencyLimit.Stats> concurrency() {
+        return concurrencyLimitFilter.stats();
     }
 
     /** Immutable response model serialized automatically to JSON. */
@@ -0,0 +1,85 @@
+package com.loanmanagementsystem.loanmanagementsystem.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.RuleSetRole;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityRules;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityService;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityService.RuleSetView;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityService.ShadowReport;
+
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+
+/** Admin management of eligibility rule sets: register versions, pick the active one, compare challengers. */
+@RestController
+@RequestMapping("/api/admin/rule-sets")
+@RequiredArgsConstructor
+public class AdminRuleSetController {
+
+    /** Owns the rule sets and the shadow-scoring results. */
+    private final EligibilityService eligibilityService;
+
+    /** Lists all rule sets with their roles. */
+    @GetMapping
+    public List<RuleSetView> list() {
+        return eligibilityService.ruleSets();
+    }
+
+    /** Creates or replaces a rule set; takes effect on every instance without a restart. */
+    @PutMapping("/{name}")
+    public RuleSetView save(@PathVariable String name, @RequestBody EligibilityRules rules, Authentication authentication) {
+        if (rules == null || rules.employmentRisk() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A complete rule set is required");
+        }
+        return eligibilityService.saveRuleSet(name, rules, authentication.getName());
+    }
+
+    /** Makes a rule set ACTIVE, CHALLENGER or INACTIVE. */
+    @PutMapping("/{name}/role")
+    public RuleSetView updateRole(@PathVariable String name, @RequestBody UpdateRoleRequest req, Authentication authentication) {
+        if (req == null || req.role == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Role is required");
+        }
+        return eligibilityService.changeRole(name, req.role, authentication.getName());
+    }
+
+    /** Deletes a rule set other than the active one. */
+    @DeleteMapping("/{name}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void delete(@PathVariable String name) {
+        eligibilityService.deleteRuleSet(name);
+    }
+
+    /** Challenger agreement with the active rules on this instance's live traffic. */
+    @GetMapping("/shadow")
+    public ShadowReport shadow() {
+        return eligibilityService.shadowReport();
+    }
+
+    /** Clears this instance's challenger results. */
+    @PostMapping("/shadow/reset")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    public void resetShadow() {
+        eligibilityService.resetShadowStats();
+    }
+
+    /** Payload for role changes. */
+    @Data
+    public static class UpdateRoleRequest {
+        public RuleSetRole role;
+    }
+}
@@ -0,0 +1,54 @@
+package com.loanmanagementsystem.loanmanagementsystem.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityRules;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityService;
+import com.loanmanagementsystem.loanmanagementsystem.service.PortfolioSimulationService;
+import com.loanmanagementsystem.loanmanagementsystem.service.PortfolioSimulationService.SimulationJob;
+
+import lombok.RequiredArgsConstructor;
+
+/** Admin what-if tooling: re-score the stored portfolio with candidate eligibility rules. */
+@RestController
+@RequestMapping("/api/admin/simulations")
+@RequiredArgsConstructor
+public class AdminSimulationController {
+
+    /** Active rules, used as the template for candidates. */
+    private final EligibilityService eligibilityService;
+
+    /** Runs and tracks simulation jobs. */
+    private final PortfolioSimulationService simulationService;
+
+    /** Returns the active rules so a candidate can be derived from them. */
+    @GetMapping("/rules")
+    public EligibilityRules currentRules() {
+        return eligibilityService.currentRules();
+    }
+
+    /** Starts a read-only re-scoring run with the given candidate rules. */
+    @PostMapping("/eligibility")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SimulationJob start(@RequestBody EligibilityRules candidate) {
+        if (candidate == null || candidate.employmentRisk() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "A complete rule set is required");
+        }
+        return simulationService.start(candidate);
+    }
+
+    /** Returns progress, and the report once finished. */
+    @GetMapping("/{id}")
+    public SimulationJob status(@PathVariable String id) {
+        return simulationService.find(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Simulation not found"));
+    }
+}
@@ -2,7 +2,9 @@ package com.loanmanagementsystem.loanmanagementsystem.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -12,10 +14,12 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ResponseStatusException;
 
-import com.loanmanagementsystem.loanmanagementsystem.entity.User;
+import com.loanmanagementsystem.loanmanagementsystem.config.WebConfig;
 import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
-import com.loanmanagementsystem.loanmanagementsystem.repository.UserRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.AdminQueryService;
+import com.loanmanagementsystem.loanmanagementsystem.service.AdminUserService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
@@ -26,14 +30,17 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdminUserController {
 
-    /** User persistence access. */
-    private final UserRepository userRepository;
+    /** Read-only user listing (replica-eligible). */
+    private final AdminQueryService adminQueryService;
 
-    /** Lists users, optionally filtered by role. */
-    @GetMapping
-    public List<UserResponse> listUsers(@RequestParam(required = false) UserRole role) {
-        List<User> users = (role == null) ? userRepository.findAll() : userRepository.findByRole(role);
-        return users.stream().map(UserResponse::from).toList();
+    /** Role and active-flag changes (read-write, primary). */
+    private final AdminUserService adminUserService;
+
+    /** Lists users, optionally filtered by role; JSON by default, CBOR/Smile on request. */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, WebConfig.APPLICATION_CBOR, WebConfig.APPLICATION_SMILE})
+    public List<UserResponse> listUsers(@RequestParam(required = false) UserRole role, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        return adminQueryService.listUsers(role).stream().map(UserResponse::from).toList();
     }
 
     /** Updates a user's role. */
@@ -42,28 +49,20 @@ public class AdminUserController {
         if (req == null || req.role == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Role is required");
         }
-
-        User user = userRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
-
-        user.setRole(req.role);
-        userRepository.save(user);
-        return UserResponse.from(user);
+        return UserResponse.from(adminUserService.updateRole(id, req.role));
     }
 
-    /** Enables/disables a user without deleting their record. */
+    /**
+     * Enables/disables a user without deleting their record.
+     * Disabling revokes all refresh tokens; outstanding access tokens are refused once the
+     * principal cache entry is evicted.
+     */
     @PutMapping("/{id}/active")
     public UserResponse updateActive(@PathVariable Long id, @RequestBody UpdateActiveRequest req) {
         if (req == null) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Active flag required");
         }
-
-        User user = userRepository.findById(id)
-            .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
-
-        user.setActive(req.active);
-        userRepository.save(user);
-        return UserResponse.from(user);
+        return UserResponse.from(adminUserService.updateActive(id, req.active));
     }
 
     /** Payload for role update requests. */
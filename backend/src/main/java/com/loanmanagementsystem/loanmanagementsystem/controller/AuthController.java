@@ -1,25 +1,35 @@
 package com.loanmanagementsystem.loanmanagementsystem.controller;
 
 import com.loanmanagementsystem.loanmanagementsystem.dto.LoginRequest;
+import com.loanmanagementsystem.loanmanagementsystem.dto.RefreshRequest;
 import com.loanmanagementsystem.loanmanagementsystem.dto.LoginResponse;
 import com.loanmanagementsystem.loanmanagementsystem.entity.User;
 import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
 import com.loanmanagementsystem.loanmanagementsystem.repository.UserRepository;
 import com.loanmanagementsystem.loanmanagementsystem.security.JwtUtil;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+import com.loanmanagementsystem.loanmanagementsystem.service.RefreshTokenService;
+import com.loanmanagementsystem.loanmanagementsystem.service.UsernameAvailabilityService;
+import java.sql.SQLException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
 
-/** Auth endpoints for registration and login (JWT-based). */
+/** Auth endpoints for registration, login, token refresh and logout (JWT-based). */
 @CrossOrigin(origins = "http://localhost:3000")
 @RestController
 @RequestMapping("/api/auth")
 @RequiredArgsConstructor
 public class AuthController {
 
+    /** SQLSTATE for unique constraint violations (Postgres and H2). */
+    private static final String UNIQUE_VIOLATION = "23505";
+
     /** User persistence access. */
     private final UserRepository userRepository;
 
@@ -29,7 +39,19 @@ public class AuthController {
     /** Creates signed JWT tokens for authenticated users. */
     private final JwtUtil jwtUtil;
 
-    /** Creates a new user with the default CUSTOMER role. */
+    /** Rotating refresh tokens, so expired access tokens are renewed without BCrypt. */
+    private final RefreshTokenService refreshTokenService;
+
+    /** Fast username-taken checks backed by an in-memory filter. */
+    private final UsernameAvailabilityService usernameAvailabilityService;
+
+    /** Announces new users to the availability filter and metrics versions on every node. */
+    private final InvalidationBus invalidationBus;
+
+    /**
+     * Creates a new user with the default CUSTOMER role.
+     * Relies on the unique username constraint instead of a pre-check, so this is a single insert.
+     */
     @PostMapping("/register")
     public ResponseEntity<String> register(@RequestBody LoginRequest request) {
         if (request.getUsername() == null || request.getUsername().isBlank()
@@ -37,20 +59,32 @@ public class AuthController {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Username and password are required");
         }
 
-        if (userRepository.findByUsername(request.getUsername()).isPresent()) {
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "Username already exists");
-        }
-
         User user = new User();
         user.setUsername(request.getUsername());
         user.setPassword(passwordEncoder.encode(request.getPassword()));
         user.setRole(UserRole.CUSTOMER);
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isUniqueViolation(e)) throw new ResponseStatusException(HttpStatus.CONFLICT, "Username already exists");
+            throw e;
+        }
+
+        invalidationBus.publish(ChangeEvent.user(user.getId(), user.getUsername()));
         return ResponseEntity.status(HttpStatus.CREATED).body("User registered successfully");
     }
 
-    /** Validates credentials and returns a JWT token on success. */
+    /** Reports whether a username can still be registered. */
+    @GetMapping("/username-available")
+    public UsernameAvailabilityResponse usernameAvailable(@RequestParam String username) {
+        if (username.isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Username is required");
+        }
+        return new UsernameAvailabilityResponse(username, usernameAvailabilityService.isAvailable(username));
+    }
+
+    /** Validates credentials and returns an access token plus a new refresh token family. */
     @PostMapping("/login")
     public LoginResponse login(@RequestBody LoginRequest request) {
         User user = userRepository.findByUsername(request.getUsername())
@@ -62,7 +96,44 @@ public class AuthController {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid username or password");
         }
 
+        if (!user.isActive()) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "Account is disabled");
+        }
+
+        return tokens(user, refreshTokenService.issue(user));
+    }
+
+    /** Exchanges a refresh token for a new access token and refresh token (rotation). */
+    @PostMapping("/refresh")
+    public LoginResponse refresh(@RequestBody RefreshRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+        return tokens(rotation.user(), rotation.refreshToken());
+    }
+
+    /** Revokes the refresh token's family; the current access token simply expires. */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestBody RefreshRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * True when the insert hit a unique constraint (SQLSTATE 23505); on users the only one a new
+     * row can violate is the username, since the id is generated.
+     */
+    private static boolean isUniqueViolation(Throwable e) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SQLException sql && UNIQUE_VIOLATION.equals(sql.getSQLState())) return true;
+        }
+        return false;
+    }
+
+    /** Builds the token response for a user. */
+    private LoginResponse tokens(User user, String refreshToken) {
         String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
-        return new LoginResponse(token, user.getUsername(), user.getRole());
+        return new LoginResponse(token, refreshToken, user.getUsername(), user.getRole());
     }
+
+    /** Result of a username availability check. */
+    public record UsernameAvailabilityResponse(String username, boolean available) {}
 }
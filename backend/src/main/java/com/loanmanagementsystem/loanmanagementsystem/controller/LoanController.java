@@ -1,7 +1,14 @@
 package com.loanmanagementsystem.loanmanagementsystem.controller;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,15 +17,23 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.server.ResponseStatusException;
 
+import com.loanmanagementsystem.loanmanagementsystem.config.WebConfig;
 import com.loanmanagementsystem.loanmanagementsystem.dto.LoanRequest;
 import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplicationBase;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanDecisionAudit;
 import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
-import com.loanmanagementsystem.loanmanagementsystem.repository.LoanRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.ChangeVersionService;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanAuditService;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanEventStreamService;
 import com.loanmanagementsystem.loanmanagementsystem.service.LoanQueryService;
 import com.loanmanagementsystem.loanmanagementsystem.service.LoanService;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
 /** Loan APIs: apply, list with pagination, and approve/reject (role-gated). */
@@ -27,48 +42,121 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class LoanController {
 
-    /** Handles validation + creation of new applications. */
+    /** Handles creation of new applications and approve/reject decisions. */
     private final LoanService loanService;
 
     /** Handles listing with paging/sorting/filtering. */
     private final LoanQueryService loanQueryService;
 
-    /** Used for direct status updates on approve/reject. */
-    private final LoanRepository loanRepository;
+    /** Loan table version used for conditional GETs. */
+    private final ChangeVersionService changeVersionService;
+
+    /** Decision audit log. */
+    private final LoanAuditService loanAuditService;
 
-    /** Creates a new loan application. */
+    /** Live loan event streams. */
+    private final LoanEventStreamService loanEventStreamService;
+
+    /**
+     * Creates a new loan application owned by the caller.
+     * Answers 202 without an id when the submission was journaled for write-behind.
+     */
     @PostMapping("/apply")
-    public LoanApplication apply(@RequestBody LoanRequest request) {
-        return loanService.applyLoan(request);
+    public ResponseEntity<LoanApplication> apply(@RequestBody LoanRequest request, Authentication authentication) {
+        LoanApplication loan = loanService.applyLoan(request, authentication.getName());
+        return (loan.getId() == null) ? ResponseEntity.accepted().body(loan) : ResponseEntity.ok(loan);
+    }
+
+    /**
+     * Resolves a submission by the submissionRef returned from apply: 200 with the loan once
+     * stored (archived loans included), 202 while it is still queued in the write-behind journal.
+     */
+    @GetMapping("/submissions/{submissionRef}")
+    public ResponseEntity<LoanApplicationBase> submission(@PathVariable String submissionRef, Authentication authentication) {
+        boolean staff = hasRole(authentication, "ROLE_ANALYST") || hasRole(authentication, "ROLE_ADMIN");
+        return loanService.findSubmission(submissionRef, authentication.getName(), staff)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.accepted().build());
+    }
+
+    /**
+     * Streams loan events as server-sent events: all loans for analysts/admins, own loans for customers.
+     * Clients refetch what they display when an event arrives instead of polling.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication authentication) {
+        boolean admin = hasRole(authentication, "ROLE_ADMIN");
+        boolean staff = admin || hasRole(authentication, "ROLE_ANALYST");
+        return loanEventStreamService.subscribe(authentication.getName(), staff, admin);
     }
 
-    /** Lists loan applications with optional status filter. */
-    @GetMapping
-    public Page<LoanApplication> list(
+    /**
+     * Lists the caller's own loans, newest first, using keyset paging on the loan id;
+     * archived loans only when includeArchived=true.
+     */
+    @GetMapping(value = "/mine", produces = {MediaType.APPLICATION_JSON_VALUE, WebConfig.APPLICATION_CBOR, WebConfig.APPLICATION_SMILE})
+    public LoanQueryService.OwnLoansPage mine(
+            @RequestParam(required = false) Long before,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) LoanStatus status,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            Authentication authentication,
+            HttpServletResponse response
+    ) {
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (size < 1 || size > 100) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Size must be between 1 and 100");
+        }
+        return loanQueryService.listOwnLoans(authentication.getName(), status, before, size, includeArchived);
+    }
+
+    /**
+     * Lists loan applications with optional status filter; archived loans only when includeArchived=true.
+     * Answers 304 Not Modified from the loan version alone when the client's ETag is current.
+     * Returns JSON by default, or CBOR/Smile when requested via Accept; the ETag covers the chosen type.
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, WebConfig.APPLICATION_CBOR, WebConfig.APPLICATION_SMILE})
+    public Page<? extends LoanApplicationBase> list(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "desc") String direction,
-            @RequestParam(required = false) LoanStatus status
+            @RequestParam(required = false) LoanStatus status,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest webRequest,
+            HttpServletResponse response
     ) {
-        return loanQueryService.listLoans(page, size, sortBy, direction, status);
+        var version = changeVersionService.loanVersion();
+        var mediaType = WebConfig.negotiatedType(webRequest.getHeader(HttpHeaders.ACCEPT));
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noCache().cachePrivate().getHeaderValue());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        if (webRequest.checkNotModified(version.etag(mediaType, page, size, sortBy, direction, status, includeArchived), version.lastModified())) {
+            return null;
+        }
+
+        return loanQueryService.listLoans(page, size, sortBy, direction, status, includeArchived);
     }
 
     /** Sets status to APPROVED for the given loan id. */
     @PatchMapping("/{id}/approve")
-    public LoanApplication approve(@PathVariable Long id) {
-        LoanApplication loan = loanRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Loan not found"));
-        loan.setStatus(LoanStatus.APPROVED);
-        return loanRepository.save(loan);
+    public LoanApplication approve(@PathVariable Long id, Authentication authentication) {
+        return loanService.approveLoan(id, authentication.getName());
     }
 
     /** Sets status to REJECTED for the given loan id. */
     @PatchMapping("/{id}/reject")
-    public LoanApplication reject(@PathVariable Long id) {
-        LoanApplication loan = loanRepository.findById(id)
-                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Loan not found"));
-        loan.setStatus(LoanStatus.REJECTED);
-        return loanRepository.save(loan);
+    public LoanApplication reject(@PathVariable Long id, Authentication authentication) {
+        return loanService.rejectLoan(id, authentication.getName());
+    }
+
+    /** True when the caller holds the given authority. */
+    private static boolean hasRole(Authentication authentication, String authority) {
+        return authentication.getAuthorities().stream().anyMatch(a -> authority.equals(a.getAuthority()));
+    }
+
+    /** Returns the recorded decisions for a loan, oldest first. */
+    @GetMapping("/{id}/audit")
+    public List<LoanDecisionAudit> audit(@PathVariable Long id) {
+        return loanAuditService.findByLoan(id);
     }
 }
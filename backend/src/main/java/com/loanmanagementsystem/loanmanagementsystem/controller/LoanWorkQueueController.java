@@ -0,0 +1,51 @@
+package com.loanmanagementsystem.loanmanagementsystem.controller;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanWorkQueueService;
+
+import lombok.RequiredArgsConstructor;
+
+/** Analyst work queue: claim the next SUBMITTED loans or hand a claim back. */
+@RestController
+@RequestMapping("/api/loans/queue")
+@RequiredArgsConstructor
+public class LoanWorkQueueController {
+
+    /** Upper bound on loans claimed per call. */
+    private static final int MAX_CLAIM = 50;
+
+    /** Claim/lease handling. */
+    private final LoanWorkQueueService workQueueService;
+
+    /** Claims up to count loans for the caller, ordered by risk (highest first) or age (oldest first). */
+    @PostMapping("/claim")
+    public List<LoanApplication> claim(
+            @RequestParam(defaultValue = "5") int count,
+            @RequestParam(defaultValue = "RISK") LoanWorkQueueService.Order order,
+            Authentication authentication
+    ) {
+        if (count < 1 || count > MAX_CLAIM) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Count must be between 1 and " + MAX_CLAIM);
+        }
+        return workQueueService.claim(authentication.getName(), count, order);
+    }
+
+    /** Returns a claimed loan to the queue. */
+    @PostMapping("/{id}/release")
+    public void release(@PathVariable Long id, Authentication authentication) {
+        if (!workQueueService.release(id, authentication.getName())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Loan is not claimed by you");
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.loanmanagementsystem.loanmanagementsystem.dto;
 
+import java.math.BigDecimal;
+
 import lombok.Data;
 
 /** Request payload for creating a loan application. */
@@ -10,16 +12,16 @@ public class LoanRequest {
     private String fullName;
 
     /** Requested loan amount. */
-    private Double amount;
+    private BigDecimal amount;
 
     /** Loan duration in months. */
     private Integer tenure;
 
     /** Monthly income of the applicant. */
-    private Double monthlyIncome;
+    private BigDecimal monthlyIncome;
 
     /** Current monthly debt obligations. */
-    private Double monthlyDebt;
+    private BigDecimal monthlyDebt;
 
     /** Credit score used for eligibility checks. */
     private Integer creditScore;
@@ -0,0 +1,35 @@
+package com.loanmanagementsystem.loanmanagementsystem.dto;
+
+import java.math.BigDecimal;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.EmploymentType;
+
+/** Scoring inputs of a stored loan, read as a lightweight projection for bulk re-scoring. */
+public record LoanScoringInput(
+
+        /** Loan id; also the keyset cursor. */
+        Long id,
+
+        /** Monthly income of the applicant. */
+        BigDecimal monthlyIncome,
+
+        /** Existing monthly debt obligations. */
+        BigDecimal monthlyDebt,
+
+        /** Credit score at application time. */
+        Integer creditScore,
+
+        /** Employment category of the applicant. */
+        EmploymentType employmentType
+) {
+
+    /** Rebuilds the request shape the eligibility service scores. */
+    public LoanRequest toRequest() {
+        LoanRequest req = new LoanRequest();
+        req.setMonthlyIncome(monthlyIncome);
+        req.setMonthlyDebt(monthlyDebt);
+        req.setCreditScore(creditScore);
+        req.setEmploymentType((employmentType == null) ? null : employmentType.name());
+        return req;
+    }
+}
@@ -5,14 +5,17 @@ import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
-/** Response returned after a successful login. */
+/** Response returned after a successful login or token refresh. */
 @Data
 @AllArgsConstructor
 public class LoginResponse {
 
-    /** JWT token used for authenticated API requests. */
+    /** Short-lived JWT used for authenticated API requests. */
     private String token;
 
+    /** Single-use token exchanged at /api/auth/refresh for a new token pair. */
+    private String refreshToken;
+
     /** Logged-in user's username. */
     private String username;
 
@@ -0,0 +1,11 @@
+package com.loanmanagementsystem.loanmanagementsystem.dto;
+
+import lombok.Data;
+
+/** Request payload for token refresh and logout. */
+@Data
+public class RefreshRequest {
+
+    /** Refresh token returned by login or the previous refresh. */
+    private String refreshToken;
+}
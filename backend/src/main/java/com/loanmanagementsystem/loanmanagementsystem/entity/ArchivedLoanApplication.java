@@ -0,0 +1,30 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Decided loan application moved out of the hot table; keeps its original id. */
+@Entity
+@Table(name = "loan_application_archive", indexes = {
+    @Index(name = "idx_loan_application_archive_user_id_id", columnList = "user_id, id"),
+    @Index(name = "ux_loan_application_archive_submission_ref", columnList = "submission_ref", unique = true)
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedLoanApplication extends LoanApplicationBase {
+
+    /** Id carried over from the hot table. */
+    @Id
+    private Long id;
+
+    /** Timestamp when the row was archived. */
+    private LocalDateTime archivedAt;
+}
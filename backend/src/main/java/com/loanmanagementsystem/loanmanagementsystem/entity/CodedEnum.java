@@ -0,0 +1,8 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+/** Enum stored as a stable smallint code; codes are persisted, so they must never be renumbered. */
+public interface CodedEnum {
+
+    /** Database code of this constant. */
+    short code();
+}
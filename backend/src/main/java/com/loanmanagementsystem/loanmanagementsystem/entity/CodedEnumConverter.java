@@ -0,0 +1,42 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+import java.lang.reflect.Array;
+
+import jakarta.persistence.AttributeConverter;
+
+/** Maps a {@link CodedEnum} to its smallint code and back. */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum> implements AttributeConverter<E, Short> {
+
+    /** Constants indexed by code. */
+    private final E[] byCode;
+
+    protected CodedEnumConverter(Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        int max = 0;
+        for (E e : constants) max = Math.max(max, e.code());
+
+        @SuppressWarnings("unchecked")
+        E[] table = (E[]) Array.newInstance(type, max + 1);
+        for (E e : constants) {
+            if (table[e.code()] != null) {
+                throw new IllegalStateException("Duplicate code " + e.code() + " in " + type.getSimpleName());
+            }
+            table[e.code()] = e;
+        }
+        this.byCode = table;
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return (attribute == null) ? null : attribute.code();
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short code) {
+        if (code == null) return null;
+        if (code < 0 || code >= byCode.length || byCode[code] == null) {
+            throw new IllegalArgumentException("Unknown code " + code);
+        }
+        return byCode[code];
+    }
+}
@@ -0,0 +1,37 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** Read-only union of hot and archived loan applications, used when callers opt into the archive. */
+@Entity
+@Immutable
+@Subselect("""
+        select id, amount, interest_rate, tenure, status, created_at, full_name, monthly_income,
+               monthly_debt, credit_score, employment_type, purpose, dti, risk_score,
+               eligibility_decision, submission_ref, user_id, false as archived
+        from loan_application
+        union all
+        select id, amount, interest_rate, tenure, status, created_at, full_name, monthly_income,
+               monthly_debt, credit_score, employment_type, purpose, dti, risk_score,
+               eligibility_decision, submission_ref, user_id, true as archived
+        from loan_application_archive
+        """)
+@Synchronize({"loan_application", "loan_application_archive"})
+@Getter
+@NoArgsConstructor
+public class CombinedLoanApplication extends LoanApplicationBase {
+
+    /** Loan id (unique across both tables). */
+    @Id
+    private Long id;
+
+    /** True when the row comes from the archive table. */
+    private boolean archived;
+}
@@ -0,0 +1,26 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+/** Outcome of eligibility scoring; stored as a smallint code. */
+public enum EligibilityDecision implements CodedEnum {
+
+    /** Meets all thresholds. */
+    ELIGIBLE(1),
+
+    /** Needs a manual look. */
+    REVIEW(2),
+
+    /** Fails a hard threshold. */
+    REJECT(3);
+
+    /** Persisted code. */
+    private final short code;
+
+    EligibilityDecision(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short code() {
+        return code;
+    }
+}
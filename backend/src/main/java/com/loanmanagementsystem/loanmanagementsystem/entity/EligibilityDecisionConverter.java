@@ -0,0 +1,12 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+import jakarta.persistence.Converter;
+
+/** Stores {@link EligibilityDecision} as its smallint code. */
+@Converter
+public class EligibilityDecisionConverter extends CodedEnumConverter<EligibilityDecision> {
+
+    public EligibilityDecisionConverter() {
+        super(EligibilityDecision.class);
+    }
+}
@@ -0,0 +1,43 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Named version of the eligibility thresholds, stored as JSON so every node loads the same rules. */
+@Entity
+@Table(name = "eligibility_rule_set")
+@Getter
+@Setter
+@NoArgsConstructor
+public class EligibilityRuleSet {
+
+    /** Unique name chosen by the admin, e.g. "default" or "2026-q4-dti". */
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    /** Serialized EligibilityRules. */
+    @Column(nullable = false, columnDefinition = "text")
+    private String rules;
+
+    /** Whether the set decides, is shadow-scored, or is parked. */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RuleSetRole role;
+
+    /** Last change to rules or role. */
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    /** Admin who made the last change; null for the built-in default. */
+    private String updatedBy;
+}
@@ -0,0 +1,43 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+/** Employment category of an applicant; stored as a smallint code. */
+public enum EmploymentType implements CodedEnum {
+
+    /** Any value not listed below. */
+    OTHER(0),
+
+    /** Regular salaried employment. */
+    SALARIED(1),
+
+    /** Business owner or freelancer. */
+    SELF_EMPLOYED(2),
+
+    /** Full-time student. */
+    STUDENT(3),
+
+    /** Currently without employment. */
+    UNEMPLOYED(4);
+
+    /** Persisted code. */
+    private final short code;
+
+    EmploymentType(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short code() {
+        return code;
+    }
+
+    /** Parses free-form input ("Self-Employed", " salaried "); unknown values map to OTHER, null stays null. */
+    public static EmploymentType fromText(String value) {
+        if (value == null || value.isBlank()) return null;
+
+        String normalized = value.trim().toUpperCase().replace('-', '_').replace(' ', '_');
+        for (EmploymentType type : values()) {
+            if (type.name().equals(normalized)) return type;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,12 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+import jakarta.persistence.Converter;
+
+/** Stores {@link EmploymentType} as its smallint code. */
+@Converter
+public class EmploymentTypeConverter extends CodedEnumConverter<EmploymentType> {
+
+    public EmploymentTypeConverter() {
+        super(EmploymentType.class);
+    }
+}
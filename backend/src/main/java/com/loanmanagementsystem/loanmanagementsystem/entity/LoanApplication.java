@@ -3,74 +3,38 @@ package com.loanmanagementsystem.loanmanagementsystem.entity;
 import java.time.LocalDateTime;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.EnumType;
-import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
-import jakarta.persistence.ManyToOne;
-import lombok.AllArgsConstructor;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-/** JPA entity representing a loan application and its lifecycle data. */
+/**
+ * JPA entity representing an active ("hot") loan application and its lifecycle data.
+ * Decided applications past the retention age are moved to {@link ArchivedLoanApplication}.
+ */
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_loan_application_status_created_at", columnList = "status, created_at"),
+    @Index(name = "idx_loan_application_user_id_id", columnList = "user_id, id"),
+    @Index(name = "ux_loan_application_submission_ref", columnList = "submission_ref", unique = true)
+})
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
-public class LoanApplication {
+public class LoanApplication extends LoanApplicationBase {
 
     /** Primary key generated by the database. */
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    /** Requested loan amount. */
-    private Double amount;
+    /** Analyst (or node prefetch buffer) currently holding this SUBMITTED loan in the work queue. */
+    private String claimedBy;
 
-    /** Interest rate assigned after evaluation. */
-    private Double interestRate;
-
-    /** Loan duration in months. */
-    private Integer tenure;
-
-    /** Current loan state (PENDING, APPROVED, REJECTED). */
-    @Enumerated(EnumType.STRING)
-    private LoanStatus status;
-
-    /** Timestamp when the application was created. */
-    private LocalDateTime createdAt;
-
-    /** Applicant full name. */
-    private String fullName;
-
-    /** Monthly income of the applicant. */
-    private Double monthlyIncome;
-
-    /** Existing monthly debt obligations. */
-    private Double monthlyDebt;
-
-    /** Credit score used for risk assessment. */
-    private Integer creditScore;
-
-    /** Employment category of the applicant. */
-    private String employmentType;
-
-    /** Purpose of the loan. */
-    private String purpose;
-
-    /** Debt-to-income ratio used for eligibility scoring. */
-    private Double dti;
-
-    /** Calculated risk score. */
-    private Integer riskScore;
-
-    /** Final eligibility decision. */
-    private String eligibilityDecision;
-
-    /** Owner of this loan application. */
-    @ManyToOne
-    private User user;
+    /** When the current claim lapses and the loan returns to the queue. */
+    private LocalDateTime claimExpiresAt;
 }
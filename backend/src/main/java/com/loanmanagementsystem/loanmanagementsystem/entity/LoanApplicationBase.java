@@ -0,0 +1,87 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Columns shared by hot and archived loan applications.
+ * Any column added here must also be added to the archive copy in
+ * ArchivedLoanApplicationRepository and to the CombinedLoanApplication subselect.
+ * Enumerations are stored as smallint codes and money as NUMERIC(14,2) to keep rows and indexes narrow.
+ */
+@MappedSuperclass
+@Getter
+@Setter
+public abstract class LoanApplicationBase {
+
+    /** Requested loan amount. */
+    @Column(precision = 14, scale = 2)
+    private BigDecimal amount;
+
+    /** Interest rate assigned after evaluation. */
+    private Double interestRate;
+
+    /** Loan duration in months. */
+    private Integer tenure;
+
+    /** Current loan state (SUBMITTED, APPROVED, REJECTED). */
+    @Convert(converter = LoanStatusConverter.class)
+    private LoanStatus status;
+
+    /** Timestamp when the application was created. */
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    /** Applicant full name. */
+    private String fullName;
+
+    /** Monthly income of the applicant. */
+    @Column(precision = 14, scale = 2)
+    private BigDecimal monthlyIncome;
+
+    /** Existing monthly debt obligations. */
+    @Column(precision = 14, scale = 2)
+    private BigDecimal monthlyDebt;
+
+    /** Credit score used for risk assessment. */
+    private Integer creditScore;
+
+    /** Employment category of the applicant. */
+    @Convert(converter = EmploymentTypeConverter.class)
+    private EmploymentType employmentType;
+
+    /** Purpose of the loan. */
+    private String purpose;
+
+    /** Debt-to-income ratio used for eligibility scoring. */
+    private Double dti;
+
+    /** Calculated risk score. */
+    private Integer riskScore;
+
+    /** Final eligibility decision. */
+    @Convert(converter = EligibilityDecisionConverter.class)
+    private EligibilityDecision eligibilityDecision;
+
+    /** Id handed to the applicant at submission, before the row (and its id) may exist. */
+    @Column(length = 36)
+    private String submissionRef;
+
+    /** Owner of this loan application; never serialized (it would expose the password hash). */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JsonIgnore
+    private User user;
+
+    /** Loan id; mapped by each subclass (generated for hot rows, carried over for archived ones). */
+    public abstract Long getId();
+}
@@ -0,0 +1,52 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** Append-only record of one loan status decision: who moved which loan from what to what, and when. */
+@Entity
+@Immutable
+@Table(name = "loan_decision_audit", indexes = {
+    @Index(name = "idx_loan_decision_audit_loan_id_id", columnList = "loan_id, id")
+})
+@Getter
+@NoArgsConstructor
+public class LoanDecisionAudit {
+
+    /** Primary key generated by the database; also the global write order. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Decided loan (not a foreign key, so entries survive archival). */
+    private Long loanId;
+
+    /** Status before the decision. */
+    @Enumerated(EnumType.STRING)
+    private LoanStatus fromStatus;
+
+    /** Status after the decision. */
+    @Enumerated(EnumType.STRING)
+    private LoanStatus toStatus;
+
+    /** Username of the deciding analyst/admin, or system:... for automated decisions. */
+    private String actor;
+
+    /** Optional free-text reason. */
+    private String reason;
+
+    /** When the decision was committed. */
+    private LocalDateTime decidedAt;
+}
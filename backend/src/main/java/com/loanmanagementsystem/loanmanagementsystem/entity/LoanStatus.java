@@ -1,14 +1,26 @@
 package com.loanmanagementsystem.loanmanagementsystem.entity;
 
-/** Lifecycle state of a loan application. */
-public enum LoanStatus {
+/** Lifecycle state of a loan application; stored as a smallint code. */
+public enum LoanStatus implements CodedEnum {
 
     /** Awaiting review after submission. */
-    SUBMITTED,
+    SUBMITTED(1),
 
     /** Approved by an analyst or admin. */
-    APPROVED,
+    APPROVED(2),
 
     /** Rejected during review. */
-    REJECTED
+    REJECTED(3);
+
+    /** Persisted code; also used by the partial indexes on SUBMITTED rows. */
+    private final short code;
+
+    LoanStatus(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short code() {
+        return code;
+    }
 }
@@ -0,0 +1,12 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+import jakarta.persistence.Converter;
+
+/** Stores {@link LoanStatus} as its smallint code. */
+@Converter
+public class LoanStatusConverter extends CodedEnumConverter<LoanStatus> {
+
+    public LoanStatusConverter() {
+        super(LoanStatus.class);
+    }
+}
@@ -0,0 +1,58 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Hashed refresh token; each login starts a family that rotation extends one token at a time. */
+@Entity
+@Table(name = "refresh_token", indexes = {
+    @Index(name = "idx_refresh_token_user_id", columnList = "user_id"),
+    @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+    @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class RefreshToken {
+
+    /** Primary key generated by the database. */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /** Hex SHA-256 of the token handed to the client; the raw token is never stored. */
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    /** Owning user. */
+    @Column(nullable = false)
+    private Long userId;
+
+    /** Login session the token belongs to; shared by all rotations of that session. */
+    @Column(nullable = false, length = 36)
+    private String familyId;
+
+    /** When the token was issued. */
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    /** After this the token is rejected. */
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    /** When the token was exchanged for its successor; null while unused. */
+    private LocalDateTime usedAt;
+
+    /** When the token (or its family) was revoked; null while valid. */
+    private LocalDateTime revokedAt;
+}
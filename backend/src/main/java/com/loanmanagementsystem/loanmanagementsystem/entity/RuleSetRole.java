@@ -0,0 +1,14 @@
+package com.loanmanagementsystem.loanmanagementsystem.entity;
+
+/** How an eligibility rule set takes part in scoring. */
+public enum RuleSetRole {
+
+    /** Decides live applications; exactly one rule set has this role. */
+    ACTIVE,
+
+    /** Scored in the background on live traffic and compared with the active set. */
+    CHALLENGER,
+
+    /** Kept for later use; not evaluated. */
+    INACTIVE
+}
@@ -0,0 +1,52 @@
+package com.loanmanagementsystem.loanmanagementsystem.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.ArchivedLoanApplication;
+
+/** Repository for archived (decided, aged-out) loan applications. */
+public interface ArchivedLoanApplicationRepository extends JpaRepository<ArchivedLoanApplication, Long> {
+
+    /** Finds an archived loan by the id handed out at submission. */
+    Optional<ArchivedLoanApplication> findBySubmissionRef(String submissionRef);
+
+    /** Finds an archived loan by submission id, only if the given user owns it. */
+    Optional<ArchivedLoanApplication> findBySubmissionRefAndUserUsername(String submissionRef, String username);
+
+    /**
+     * Moves up to limit decided loans created before the cutoff from the hot table into the archive
+     * in one statement. The rows are locked when picked (skipping rows another transaction holds)
+     * and the delete re-checks status and age, so a concurrent re-decision either waits for the
+     * move or keeps the row hot; the archive always receives the row versions that were deleted.
+     */
+    @Modifying
+    @Query(value = """
+            with moved as (
+                delete from loan_application
+                where id in (
+                    select id from loan_application
+                    where status in :statuses and created_at < :cutoff
+                    order by id
+                    limit :limit
+                    for update skip locked)
+                  and status in :statuses and created_at < :cutoff
+                returning id, amount, interest_rate, tenure, status, created_at, full_name, monthly_income,
+                          monthly_debt, credit_score, employment_type, purpose, dti, risk_score,
+                          eligibility_decision, submission_ref, user_id)
+            insert into loan_application_archive (
+                id, amount, interest_rate, tenure, status, created_at, full_name, monthly_income,
+                monthly_debt, credit_score, employment_type, purpose, dti, risk_score,
+                eligibility_decision, submission_ref, user_id, archived_at)
+            select id, amount, interest_rate, tenure, status, created_at, full_name, monthly_income,
+                   monthly_debt, credit_score, employment_type, purpose, dti, risk_score,
+                   eligibility_decision, submission_ref, user_id, :archivedAt
+            from moved
+            """, nativeQuery = true)
+    int moveFromHot(Collection<Short> statuses, LocalDateTime cutoff, int limit, LocalDateTime archivedAt);
+}
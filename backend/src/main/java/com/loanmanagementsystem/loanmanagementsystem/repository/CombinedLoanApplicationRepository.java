@@ -0,0 +1,38 @@
+package com.loanmanagementsystem.loanmanagementsystem.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import com.loanmanagementsystem.loanmanagementsystem.dto.LoanScoringInput;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.CombinedLoanApplication;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
+
+/** Read-only queries spanning both hot and archived loan applications. */
+public interface CombinedLoanApplicationRepository extends JpaRepository<CombinedLoanApplication, Long> {
+
+    /** Returns loans from both tables filtered by status with pagination support. */
+    Page<CombinedLoanApplication> findByStatus(LoanStatus status, Pageable pageable);
+
+    /** Owner's hot and archived loans below the id cursor, newest first (keyset page over both user_id, id indexes). */
+    List<CombinedLoanApplication> findByUserUsernameAndIdLessThanOrderByIdDesc(String username, Long beforeId, Limit limit);
+
+    /** Owner's hot and archived loans in a given status below the id cursor, newest first. */
+    List<CombinedLoanApplication> findByUserUsernameAndStatusAndIdLessThanOrderByIdDesc(
+            String username, LoanStatus status, Long beforeId, Limit limit);
+
+    /** Returns scoring inputs for loans with id greater than the cursor, in id order (keyset paging). */
+    @Query("""
+            select new com.loanmanagementsystem.loanmanagementsystem.dto.LoanScoringInput(
+                l.id, l.monthlyIncome, l.monthlyDebt, l.creditScore, l.employmentType)
+            from CombinedLoanApplication l
+            where l.id > :afterId
+            order by l.id
+            """)
+    List<LoanScoringInput> findScoringInputsAfter(Long afterId, Pageable pageable);
+}
@@ -0,0 +1,19 @@
+package com.loanmanagementsystem.loanmanagementsystem.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.EligibilityRuleSet;
+import com.loanmanagementsystem.loanmanagementsystem.entity.RuleSetRole;
+
+/** Repository for named eligibility rule sets. */
+public interface EligibilityRuleSetRepository extends JpaRepository<EligibilityRuleSet, String> {
+
+    /** Returns the rule set that decides live applications, if one is stored. */
+    Optional<EligibilityRuleSet> findFirstByRole(RuleSetRole role);
+
+    /** Returns all rule sets ordered by name. */
+    List<EligibilityRuleSet> findAllByOrderByNameAsc();
+}
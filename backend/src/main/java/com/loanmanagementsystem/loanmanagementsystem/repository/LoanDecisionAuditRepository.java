@@ -0,0 +1,14 @@
+package com.loanmanagementsystem.loanmanagementsystem.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanDecisionAudit;
+
+/** Read access to the decision audit log; writes go through the batched audit writer. */
+public interface LoanDecisionAuditRepository extends JpaRepository<LoanDecisionAudit, Long> {
+
+    /** Decisions for one loan in the order they were written. */
+    List<LoanDecisionAudit> findByLoanIdOrderByIdAsc(Long loanId);
+}
@@ -1,15 +1,106 @@
 package com.loanmanagementsystem.loanmanagementsystem.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
 import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
 
+import jakarta.persistence.LockModeType;
+
 /** Repository for querying and persisting loan applications. */
 public interface LoanRepository extends JpaRepository<LoanApplication, Long> {
 
     /** Returns loans filtered by status with pagination support. */
     Page<LoanApplication> findByStatus(LoanStatus status, Pageable pageable);
+
+    /** Owner's loans below the id cursor, newest first (keyset page over the user_id, id index). */
+    List<LoanApplication> findByUserUsernameAndIdLessThanOrderByIdDesc(String username, Long beforeId, Limit limit);
+
+    /** Owner's loans in a given status below the id cursor, newest first. */
+    List<LoanApplication> findByUserUsernameAndStatusAndIdLessThanOrderByIdDesc(
+            String username, LoanStatus status, Long beforeId, Limit limit);
+
+    /** Finds a loan by id and row-locks it, so concurrent decisions on one loan serialize. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from LoanApplication l where l.id = :id")
+    Optional<LoanApplication> findByIdForUpdate(Long id);
+
+    /** Finds a loan by the id handed out at submission. */
+    Optional<LoanApplication> findBySubmissionRef(String submissionRef);
+
+    /** Finds a loan by submission id, only if the given user owns it. */
+    Optional<LoanApplication> findBySubmissionRefAndUserUsername(String submissionRef, String username);
+
+    /** Locks up to limit unclaimed loans in the given status code, highest risk first, skipping rows locked by others. */
+    @Query(value = """
+            select id from loan_application
+            where status = :status and (claim_expires_at is null or claim_expires_at < :now)
+            order by risk_score desc nulls last, id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<Long> lockClaimableByRisk(short status, LocalDateTime now, int limit);
+
+    /** Locks up to limit unclaimed loans in the given status code, oldest first, skipping rows locked by others. */
+    @Query(value = """
+            select id from loan_application
+            where status = :status and (claim_expires_at is null or claim_expires_at < :now)
+            order by created_at, id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<Long> lockClaimableByAge(short status, LocalDateTime now, int limit);
+
+    /** Assigns a claim to the given (already locked) loans. */
+    @Modifying
+    @Query("update LoanApplication l set l.claimedBy = :owner, l.claimExpiresAt = :expiresAt where l.id in :ids")
+    int claim(Collection<Long> ids, String owner, LocalDateTime expiresAt);
+
+    /** Moves still-valid claims on loans in the given status from one owner to another; lapsed claims are left alone. */
+    @Modifying
+    @Query("""
+            update LoanApplication l set l.claimedBy = :newOwner, l.claimExpiresAt = :expiresAt
+            where l.id in :ids and l.claimedBy = :currentOwner and l.claimExpiresAt > :now
+              and l.status = :status
+            """)
+    int transferClaims(Collection<Long> ids, LoanStatus status, String currentOwner, String newOwner,
+                       LocalDateTime expiresAt, LocalDateTime now);
+
+    /** Clears the claim on a loan if it is held by the given owner. */
+    @Modifying
+    @Query("update LoanApplication l set l.claimedBy = null, l.claimExpiresAt = null where l.id = :id and l.claimedBy = :owner")
+    int releaseClaim(Long id, String owner);
+
+    /**
+     * Locks up to limit unclaimed loans in the given status code with the given eligibility decision
+     * code and a risk score at or below maxRisk, skipping rows locked by others.
+     */
+    @Query(value = """
+            select id from loan_application
+            where status = :status and eligibility_decision = :decision and risk_score <= :maxRisk
+              and (claim_expires_at is null or claim_expires_at < :now)
+            order by id
+            limit :limit
+            for update skip locked
+            """, nativeQuery = true)
+    List<Long> lockAutoDecidable(short status, short decision, int maxRisk, LocalDateTime now, int limit);
+
+    /** Sets the status of the given (already locked) loans and clears any lapsed claim. */
+    @Modifying
+    @Query("update LoanApplication l set l.status = :status, l.claimedBy = null, l.claimExpiresAt = null where l.id in :ids")
+    int updateStatus(Collection<Long> ids, LoanStatus status);
+
+    /** Returns the given loans that are currently claimed by the owner. */
+    List<LoanApplication> findByIdInAndClaimedBy(Collection<Long> ids, String claimedBy);
 }
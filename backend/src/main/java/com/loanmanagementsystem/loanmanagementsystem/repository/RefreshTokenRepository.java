@@ -0,0 +1,36 @@
+package com.loanmanagementsystem.loanmanagementsystem.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.RefreshToken;
+
+import jakarta.persistence.LockModeType;
+
+/** Repository for refresh token lookups, rotation and revocation. */
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    /** Finds a token by hash and row-locks it, so concurrent rotations of one token serialize. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    /** Revokes every still-valid token of a family. */
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.familyId = :familyId and t.revokedAt is null")
+    int revokeFamily(String familyId, LocalDateTime now);
+
+    /** Revokes every still-valid token of a user. */
+    @Modifying
+    @Query("update RefreshToken t set t.revokedAt = :now where t.userId = :userId and t.revokedAt is null")
+    int revokeByUserId(Long userId, LocalDateTime now);
+
+    /** Removes tokens that expired before the cutoff. */
+    @Modifying
+    @Query("delete from RefreshToken t where t.expiresAt < :cutoff")
+    int deleteExpiredBefore(LocalDateTime cutoff);
+}
@@ -1,19 +1,47 @@
 package com.loanmanagementsystem.loanmanagementsystem.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.loanmanagementsystem.loanmanagementsystem.entity.User;
 import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
 
+import jakarta.persistence.LockModeType;
+
 /** Repository for querying and persisting User entities. */
 public interface UserRepository extends JpaRepository<User, Long> {
 
-    /** Returns a user by username if present. */
+    /**
+     * Returns a user by username if present. Read-write (primary) unless the caller already runs a
+     * read-only transaction: login, principal loads and loan ownership must see just-registered or
+     * just-disabled accounts, which a lagging replica may not have yet.
+     */
+    @Transactional
     Optional<User> findByUsername(String username);
 
+    /** Finds a user by id and row-locks it, so concurrent admin updates of one account serialize. */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from User u where u.id = :id")
+    Optional<User> findByIdForUpdate(Long id);
+
+    /** Checks whether a username is taken without loading the entity. */
+    boolean existsByUsername(String username);
+
+    /** Returns every username; used to rebuild the in-memory availability filter. */
+    @Query("select u.username from User u")
+    List<String> findAllUsernames();
+
+    /** Returns which of the given usernames already exist, in a single query. */
+    @Query("select u.username from User u where u.username in :usernames")
+    Set<String> findExistingUsernames(Collection<String> usernames);
+
     /** Counts users assigned to a specific role. */
     long countByRole(UserRole role);
 
@@ -1,7 +1,9 @@
 package com.loanmanagementsystem.loanmanagementsystem.security;
 
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -11,20 +13,59 @@ import org.springframework.stereotype.Service;
 import com.loanmanagementsystem.loanmanagementsystem.entity.User;
 import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
 import com.loanmanagementsystem.loanmanagementsystem.repository.UserRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.Kind;
 
-import lombok.RequiredArgsConstructor;
-
-/** Loads users from the database and maps roles to Spring Security authorities. */
+/**
+ * Loads users from the database and maps roles to Spring Security authorities.
+ * Principals are cached per username; role and active-flag changes on any node evict the entry
+ * through the invalidation bus, and the TTL bounds staleness if an event is ever lost.
+ */
 @Service
-@RequiredArgsConstructor
 public class DbUserDetailsService implements UserDetailsService {
 
     /** User lookup source. */
     private final UserRepository userRepository;
 
+    /** Cached principals by username. */
+    private final ConcurrentHashMap<String, CachedPrincipal> cache = new ConcurrentHashMap<>();
+
+    /** How long a cached principal is trusted without an event (0 disables caching). */
+    private final long ttlNanos;
+
+    /** Entry cap; the cache is cleared when exceeded, which only costs reloads. */
+    private final int maxSize;
+
+    public DbUserDetailsService(
+            UserRepository userRepository,
+            InvalidationBus invalidationBus,
+            @Value("${app.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${app.principal-cache.max-size:10000}") int maxSize
+    ) {
+        this.userRepository = userRepository;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxSize = maxSize;
+        invalidationBus.subscribe(this::onChange);
+    }
+
     /** Used by Spring Security to load credentials for authentication. */
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        long now = System.nanoTime();
+        CachedPrincipal cached = cache.get(username);
+        if (cached != null && now - cached.loadedAt() < ttlNanos) return cached.details();
+
+        UserDetails details = load(username);
+        if (ttlNanos > 0) {
+            if (cache.size() >= maxSize) cache.clear();
+            cache.put(username, new CachedPrincipal(details, now));
+        }
+        return details;
+    }
+
+    /** Reads the user and builds its principal. */
+    private UserDetails load(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
@@ -37,4 +78,16 @@ public class DbUserDetailsService implements UserDetailsService {
                 .disabled(!user.isActive())
                 .build();
     }
+
+    /** Evicts the changed user, or everything on a flush. */
+    private void onChange(ChangeEvent event) {
+        if (event.kind() == Kind.USER_CHANGED && event.key() != null) {
+            cache.remove(event.key());
+        } else if (event.kind() == Kind.FLUSH) {
+            cache.clear();
+        }
+    }
+
+    /** Principal plus the nanoTime it was loaded at. */
+    private record CachedPrincipal(UserDetails details, long loadedAt) {}
 }
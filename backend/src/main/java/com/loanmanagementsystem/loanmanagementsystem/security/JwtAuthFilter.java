@@ -11,17 +11,26 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import io.jsonwebtoken.JwtException;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 
-/** Extracts a Bearer token, validates it, and sets authentication in the SecurityContext. */
+/**
+ * Extracts a Bearer token, validates it, and sets authentication in the SecurityContext.
+ * The event stream also accepts the token as an access_token query parameter, because
+ * browsers cannot set headers on EventSource requests.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
+    /** Only endpoint that accepts a token in the query string. */
+    private static final String STREAM_PATH = "/api/loans/stream";
+
     /** JWT helper for parsing and validation. */
     private final JwtUtil jwtUtil;
 
@@ -36,30 +45,43 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             FilterChain filterChain
     ) throws ServletException, IOException {
 
-        String header = request.getHeader("Authorization");
-
-        if (header != null && header.startsWith("Bearer ")) {
-            String token = header.substring(7);
+        String token = resolveToken(request);
 
+        if (token != null) {
             try {
                 String username = jwtUtil.extractUsername(token);
 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
                     UserDetails userDetails = userDetailsService.loadUserByUsername(username);
 
-                    UsernamePasswordAuthenticationToken auth =
-                            new UsernamePasswordAuthenticationToken(
-                                    userDetails, null, userDetails.getAuthorities()
-                            );
+                    // Disabled accounts keep valid-looking tokens until expiry; refuse them here.
+                    if (userDetails.isEnabled()) {
+                        UsernamePasswordAuthenticationToken auth =
+                                new UsernamePasswordAuthenticationToken(
+                                        userDetails, null, userDetails.getAuthorities()
+                                );
 
-                    auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(auth);
+                        auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                        SecurityContextHolder.getContext().setAuthentication(auth);
+                    }
                 }
-            } catch (UsernameNotFoundException ignored) {
-                // Invalid/expired token: leave the request unauthenticated.
+            } catch (JwtException | IllegalArgumentException | UsernameNotFoundException ignored) {
+                // Invalid/expired token: leave the request unauthenticated so the client gets 401 and refreshes.
             }
         }
 
         filterChain.doFilter(request, response);
     }
+
+    /** Bearer header, or the query parameter on GET requests to the event stream. */
+    private static String resolveToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        if (header != null && header.startsWith("Bearer ")) return header.substring(7);
+
+        if ("GET".equals(request.getMethod()) && STREAM_PATH.equals(request.getServletPath())) {
+            String token = request.getParameter("access_token");
+            if (token != null && !token.isBlank()) return token;
+        }
+        return null;
+    }
 }
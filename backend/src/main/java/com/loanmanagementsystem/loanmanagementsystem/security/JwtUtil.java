@@ -20,12 +20,12 @@ public class JwtUtil {
     /** Signing key derived from the configured secret. */
     private final SecretKey signingKey;
 
-    /** Token lifetime in milliseconds. */
+    /** Access token lifetime in milliseconds; kept short because refresh tokens renew it. */
     private final long expirationMs;
 
     public JwtUtil(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expirationMs:86400000}") long expirationMs
+            @Value("${jwt.expirationMs:900000}") long expirationMs
     ) {
         if (secret.getBytes(StandardCharsets.UTF_8).length < 32) {
             throw new IllegalArgumentException("JWT secret must be at least 32 bytes for HS256");
@@ -0,0 +1,19 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import java.util.List;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.User;
+import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
+
+/** Queries behind the admin console; listings are served from the read replica when configured, ETag-backed counts from the primary. */
+public interface AdminQueryService {
+
+    /** Lists users, optionally filtered by role. */
+    List<User> listUsers(UserRole role);
+
+    /** Counts users per role and loans (hot only unless includeArchived). */
+    PlatformCounts counts(boolean includeArchived);
+
+    /** User and loan totals for the admin dashboard. */
+    record PlatformCounts(long customers, long analysts, long admins, long loans) {}
+}
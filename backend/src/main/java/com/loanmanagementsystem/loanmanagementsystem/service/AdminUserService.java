@@ -0,0 +1,14 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.User;
+import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
+
+/** Admin changes to user accounts; each runs in one read-write transaction on the primary. */
+public interface AdminUserService {
+
+    /** Sets a user's role; 404 when the user does not exist. */
+    User updateRole(Long id, UserRole role);
+
+    /** Enables or disables a user; disabling revokes their refresh tokens. 404 when the user does not exist. */
+    User updateActive(Long id, boolean active);
+}
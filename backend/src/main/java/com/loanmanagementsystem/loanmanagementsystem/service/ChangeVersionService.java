@@ -0,0 +1,43 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Tracks cheap change versions for loans and users so polling endpoints can
+ * answer conditional GETs without running their queries.
+ * Versions advance on events from the {@link InvalidationBus}, including changes made on other nodes.
+ */
+public interface ChangeVersionService {
+
+    /** Current version of the loan table. */
+    ChangeVersion loanVersion();
+
+    /** Current version of everything the admin metrics depend on (users and loans). */
+    ChangeVersion metricsVersion();
+
+    /** Opaque version tag plus the time of the last change. */
+    record ChangeVersion(String tag, long lastModified) {
+
+        /**
+         * Builds a strong ETag from the version and request-specific qualifiers (paging, filters).
+         * Qualifiers are hashed with SHA-256 over a length-prefixed canonical string, so two different
+         * requests cannot share a tag through a hash collision.
+         */
+        public String etag(Object... qualifiers) {
+            StringBuilder canonical = new StringBuilder();
+            for (Object qualifier : qualifiers) {
+                String value = String.valueOf(qualifier);
+                canonical.append(value.length()).append(':').append(value).append(';');
+            }
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+                return "\"" + tag + "-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 not available", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import java.util.Map;
+
+/**
+ * Thresholds and weights used by eligibility scoring.
+ * Immutable so a candidate rule set can be evaluated side by side with the active one.
+ */
+public record EligibilityRules(
+
+        /** Credit score at or above which the "excellent" band applies. */
+        int excellentCredit,
+
+        /** Credit score at or above which the "good" band applies. */
+        int goodCredit,
+
+        /** Credit score at or above which the "fair" band applies. */
+        int fairCredit,
+
+        /** Risk points per credit band, best to worst. */
+        int excellentCreditRisk,
+        int goodCreditRisk,
+        int fairCreditRisk,
+        int poorCreditRisk,
+
+        /** Upper DTI bounds for the low, moderate, and high bands. */
+        double lowDti,
+        double moderateDti,
+        double highDti,
+
+        /** Risk points per DTI band, lowest to highest. */
+        int lowDtiRisk,
+        int moderateDtiRisk,
+        int highDtiRisk,
+        int excessiveDtiRisk,
+
+        /** Risk points by normalized employment type. */
+        Map<String, Integer> employmentRisk,
+
+        /** Risk points for unknown or missing employment types. */
+        int otherEmploymentRisk,
+
+        /** Hard reject below this credit score or above this DTI. */
+        int rejectBelowCredit,
+        double rejectAboveDti,
+
+        /** Manual review below this credit score or above this DTI. */
+        int reviewBelowCredit,
+        double reviewAboveDti,
+
+        /** Interest rate = baseRate + risk * ratePerRiskPoint, rounded to one decimal. */
+        double baseRate,
+        double ratePerRiskPoint
+) {
+
+    /** Rules currently used in production. */
+    public static final EligibilityRules DEFAULT = new EligibilityRules(
+            760, 700, 650,
+            10, 25, 45, 70,
+            0.25, 0.35, 0.50,
+            5, 15, 35, 55,
+            Map.of("SALARIED", 5, "SELF_EMPLOYED", 15, "STUDENT", 25),
+            35,
+            600, 0.60,
+            680, 0.45,
+            8.5, 0.05
+    );
+}
@@ -1,18 +1,90 @@
 package com.loanmanagementsystem.loanmanagementsystem.service;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 import com.loanmanagementsystem.loanmanagementsystem.dto.LoanRequest;
+import com.loanmanagementsystem.loanmanagementsystem.entity.EligibilityDecision;
+import com.loanmanagementsystem.loanmanagementsystem.entity.RuleSetRole;
 
-/** Evaluates loan requests and returns risk and eligibility metrics. */
+/**
+ * Evaluates loan requests and returns risk and eligibility metrics.
+ * Rule sets are named versions of the thresholds: the active one decides, challengers are
+ * shadow-scored on live traffic for comparison.
+ */
 public interface EligibilityService {
 
     /** Computes eligibility data for a loan request. */
     EligibilityResult evaluate(LoanRequest req);
 
+    /** Computes eligibility data using the given rules instead of the active ones. */
+    EligibilityResult evaluate(LoanRequest req, EligibilityRules rules);
+
+    /** Scores a live application with the active rules and queues it for every challenger. */
+    EligibilityResult decide(LoanRequest req);
+
+    /** Returns the rules applied to live applications. */
+    EligibilityRules currentRules();
+
+    /** Lists all rule sets by name. */
+    List<RuleSetView> ruleSets();
+
+    /** Creates a rule set (as INACTIVE) or replaces the rules of an existing one. */
+    RuleSetView saveRuleSet(String name, EligibilityRules rules, String actor);
+
+    /** Changes a rule set's role; activating one moves the previous active set to INACTIVE. */
+    RuleSetView changeRole(String name, RuleSetRole role, String actor);
+
+    /** Deletes a rule set that is not active. */
+    void deleteRuleSet(String name);
+
+    /** Challenger results on this instance, per challenger since it or the active set last changed. */
+    ShadowReport shadowReport();
+
+    /** Clears this instance's challenger results. */
+    void resetShadowStats();
+
     /** Immutable evaluation result returned by the service. */
     record EligibilityResult(
             double dti,
             int riskScore,
-            String decision,
+            EligibilityDecision decision,
             double recommendedRate
     ) {}
+
+    /** A stored rule set. */
+    record RuleSetView(
+            String name,
+            RuleSetRole role,
+            EligibilityRules rules,
+            LocalDateTime updatedAt,
+            String updatedBy
+    ) {}
+
+    /** Shadow-scoring totals and per-challenger comparison with the active set. */
+    record ShadowReport(
+            String activeRuleSet,
+            long submitted,
+            long dropped,
+            long failed,
+            int queued,
+            List<ChallengerStats> challengers
+    ) {}
+
+    /**
+     * How one challenger's results compare with the active set's on the same applications.
+     * decisions counts outcome pairs as active decision -> challenger decision -> count; the deltas
+     * are challenger minus active.
+     */
+    record ChallengerStats(
+            String name,
+            LocalDateTime since,
+            long evaluated,
+            long disagreements,
+            double disagreementRate,
+            Map<EligibilityDecision, Map<EligibilityDecision, Long>> decisions,
+            double avgRiskDelta,
+            double avgRateDelta
+    ) {}
 }
@@ -0,0 +1,83 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import java.util.function.Consumer;
+
+/**
+ * Publishes data-change events to local subscribers and to every other backend instance,
+ * so in-memory caches and versions can be evicted cluster-wide.
+ */
+public interface InvalidationBus {
+
+    /** Publishes an event; inside a transaction delivery happens after commit. */
+    void publish(ChangeEvent event);
+
+    /** Registers a subscriber for local and remote events. */
+    void subscribe(Consumer<ChangeEvent> subscriber);
+
+    /** What changed. */
+    enum Kind {
+
+        /** A user was created or its role/active flag changed; key is the username. */
+        USER_CHANGED,
+
+        /** A loan application was created; key is its status. */
+        LOAN_CREATED,
+
+        /** A loan application's status changed; key is the new status. */
+        LOAN_UPDATED,
+
+        /** Many loans changed at once (archival, bulk decisions); id/key are unset. */
+        LOANS_CHANGED,
+
+        /** Eligibility rule sets were added, edited or re-roled; key is the rule set name. */
+        RULES_CHANGED,
+
+        /** Events may have been missed; subscribers must drop everything they cache. */
+        FLUSH
+    }
+
+    /** Change notification; id, key and ownerId are optional depending on the kind. */
+    record ChangeEvent(Kind kind, Long id, String key, Long ownerId) {
+
+        /** A user was created or updated. */
+        public static ChangeEvent user(Long id, String username) {
+            return new ChangeEvent(Kind.USER_CHANGED, id, username, null);
+        }
+
+        /** A loan was created. */
+        public static ChangeEvent loanCreated(Long id, String status, Long ownerId) {
+            return new ChangeEvent(Kind.LOAN_CREATED, id, status, ownerId);
+        }
+
+        /** A loan's status changed. */
+        public static ChangeEvent loanUpdated(Long id, String status, Long ownerId) {
+            return new ChangeEvent(Kind.LOAN_UPDATED, id, status, ownerId);
+        }
+
+        /** Many loans changed. */
+        public static ChangeEvent loansChanged() {
+            return new ChangeEvent(Kind.LOANS_CHANGED, null, null, null);
+        }
+
+        /** A rule set changed. */
+        public static ChangeEvent rulesChanged(String name) {
+            return new ChangeEvent(Kind.RULES_CHANGED, null, name, null);
+        }
+
+        /** Drop all cached state. */
+        public static ChangeEvent flush() {
+            return new ChangeEvent(Kind.FLUSH, null, null, null);
+        }
+
+        /** True for any loan-related change, including flushes. */
+        public boolean affectsLoans() {
+            return kind == Kind.LOAN_CREATED || kind == Kind.LOAN_UPDATED
+                    || kind == Kind.LOANS_CHANGED || kind == Kind.FLUSH;
+        }
+
+        /** True for any user-related change, including flushes. */
+        public boolean affectsUsers() {
+            return kind == Kind.USER_CHANGED || kind == Kind.FLUSH;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+/** Moves decided loan applications past the retention age from the hot table to the archive. */
+public interface LoanArchiveService {
+
+    /** Archives eligible loans in batches and returns how many rows were moved. */
+    int archiveDecidedLoans();
+}
@@ -0,0 +1,49 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanDecisionAudit;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
+
+/**
+ * Records loan status decisions in an append-only audit log.
+ * Entries are queued once the surrounding transaction commits and written in batches; in SYNC
+ * durability mode the caller waits until its entries are written, in ASYNC mode it does not.
+ */
+public interface LoanAuditService {
+
+    /** Records one decision. */
+    void recordDecision(Long loanId, LoanStatus from, LoanStatus to, String actor, String reason);
+
+    /** Records the same decision for many loans (bulk transitions). */
+    void recordDecisions(Collection<Long> loanIds, LoanStatus from, LoanStatus to, String actor, String reason);
+
+    /** Written decisions for a loan, oldest first; ASYNC entries still queued are not included. */
+    List<LoanDecisionAudit> findByLoan(Long loanId);
+
+    /** Writer metrics. */
+    AuditStats stats();
+
+    /** Durability of decision audit writes. */
+    enum Durability {
+
+        /** The decision request returns only after its audit entry is written. */
+        SYNC,
+
+        /** The decision request returns immediately; the entry is written with the next batch. */
+        ASYNC
+    }
+
+    /** Writer metrics exposed to admins. */
+    record AuditStats(
+            Durability durability,
+            int pending,
+            int capacity,
+            long written,
+            long batches,
+            long failedBatches,
+            long producerWaits,
+            long dropped
+    ) {}
+}
@@ -0,0 +1,30 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Decides clear-cut SUBMITTED applications without an analyst: ELIGIBLE loans under the risk
+ * limit are approved and hard REJECT scores are rejected, leaving only REVIEW cases in the queue.
+ */
+public interface LoanAutoDecisionService {
+
+    /** Runs one pass now; empty when a pass is already running on this node. */
+    Optional<AutoDecisionRun> runOnce(String trigger);
+
+    /** Most recent runs, newest first. */
+    List<AutoDecisionRun> recentRuns();
+
+    /** Per-run report. */
+    record AutoDecisionRun(
+            String trigger,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            long approved,
+            long rejected,
+            int batches,
+            boolean capped,
+            String error
+    ) {}
+}
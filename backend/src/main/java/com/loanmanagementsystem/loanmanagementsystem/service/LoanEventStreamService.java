@@ -0,0 +1,27 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes loan events to connected clients over server-sent events.
+ * Analysts and admins receive every loan event; customers only events for their own loans.
+ */
+public interface LoanEventStreamService {
+
+    /** Opens a stream for the given user. */
+    SseEmitter subscribe(String username, boolean staff, boolean admin);
+
+    /** Stream metrics. */
+    StreamStats stats();
+
+    /** Event payload sent to clients; loanId and status are set for single-loan events. */
+    record LoanStreamEvent(String type, Long loanId, String status) {}
+
+    /** Stream metrics exposed to admins. */
+    record StreamStats(
+            int subscribers,
+            long delivered,
+            long slowConsumerDisconnects,
+            long rejectedSubscriptions
+    ) {}
+}
@@ -1,19 +1,35 @@
 package com.loanmanagementsystem.loanmanagementsystem.service;
 
+import java.util.List;
+
 import org.springframework.data.domain.Page;
 
-import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplicationBase;
 import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
 
 /** Provides paginated access to loan applications with sorting and filtering. */
 public interface LoanQueryService {
 
-    /** Returns a page of loans based on paging, sort, and optional status filter. */
-    Page<LoanApplication> listLoans(
+    /**
+     * Returns a page of loans based on paging, sort, and optional status filter.
+     * Only the hot table is queried unless includeArchived is set.
+     */
+    Page<? extends LoanApplicationBase> listLoans(
             int page,
             int size,
             String sortBy,
             String direction,
-            LoanStatus status
+            LoanStatus status,
+            boolean includeArchived
     );
+
+    /**
+     * Returns the given user's loans newest first, starting below the beforeId cursor
+     * (null for the first page), optionally filtered by status.
+     * Only the hot table is queried unless includeArchived is set.
+     */
+    OwnLoansPage listOwnLoans(String username, LoanStatus status, Long beforeId, int size, boolean includeArchived);
+
+    /** Keyset page of a user's loans; nextCursor is null on the last page. */
+    record OwnLoansPage(List<? extends LoanApplicationBase> items, Long nextCursor) {}
 }
@@ -1,11 +1,31 @@
 package com.loanmanagementsystem.loanmanagementsystem.service;
 
+import java.util.Optional;
+
 import com.loanmanagementsystem.loanmanagementsystem.dto.LoanRequest;
 import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplicationBase;
 
 /** Handles core loan creation and processing logic. */
 public interface LoanService {
 
-    /** Creates and stores a new loan application. */
-    LoanApplication applyLoan(LoanRequest req);
+    /**
+     * Creates a new loan application owned by the given user.
+     * In write-behind mode the scored application is journaled and returned without an id;
+     * its submissionRef identifies it until the row is written.
+     */
+    LoanApplication applyLoan(LoanRequest req, String username);
+
+    /**
+     * Looks up a submission by its submissionRef; empty while it is still waiting in the
+     * write-behind journal. Archived loans are found as well. Customers only see their own
+     * submissions (404 otherwise).
+     */
+    Optional<LoanApplicationBase> findSubmission(String submissionRef, String username, boolean staff);
+
+    /** Sets status to APPROVED for the given loan id on behalf of the acting analyst/admin. */
+    LoanApplication approveLoan(Long id, String actor);
+
+    /** Sets status to REJECTED for the given loan id on behalf of the acting analyst/admin. */
+    LoanApplication rejectLoan(Long id, String actor);
 }
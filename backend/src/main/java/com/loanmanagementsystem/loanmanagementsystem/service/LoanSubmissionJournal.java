@@ -0,0 +1,39 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import java.util.Optional;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
+
+/**
+ * Optional write-behind path for loan submissions.
+ * Scored applications are appended to a local disk journal and acknowledged immediately; a
+ * background drainer inserts them in batches. Replay after a restart is idempotent on
+ * submissionRef, so every acknowledged submission is persisted exactly once, or, if it can never
+ * be inserted (damaged record, owner gone), kept in a dead-letter journal and counted.
+ */
+public interface LoanSubmissionJournal {
+
+    /** True when new submissions should be journaled instead of saved synchronously. */
+    boolean isEnabled();
+
+    /** Durably journals a scored, not yet saved application for the given applicant. */
+    void append(LoanApplication loan, String username);
+
+    /** Applicant of a submission still waiting in the journal, if any. */
+    Optional<String> pendingOwner(String submissionRef);
+
+    /** Point-in-time journal metrics. */
+    JournalStats stats();
+
+    /** Journal metrics exposed to admins. */
+    record JournalStats(
+            boolean enabled,
+            int pending,
+            long appended,
+            long persisted,
+            long skipped,
+            long failedBatches,
+            long deadLettered,
+            int segments
+    ) {}
+}
@@ -0,0 +1,25 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import java.util.List;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
+
+/** Hands out SUBMITTED loans to analysts so no two analysts work the same loan. */
+public interface LoanWorkQueueService {
+
+    /** Claims up to count unclaimed SUBMITTED loans for the analyst under a time-limited lease. */
+    List<LoanApplication> claim(String analyst, int count, Order order);
+
+    /** Gives a claimed loan back to the queue; returns false if the analyst does not hold it. */
+    boolean release(Long loanId, String analyst);
+
+    /** Queue ordering. */
+    enum Order {
+
+        /** Highest risk score first. */
+        RISK,
+
+        /** Oldest application first. */
+        AGE
+    }
+}
@@ -0,0 +1,40 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+
+/** Re-scores the stored loan portfolio with candidate rules without writing anything back. */
+public interface PortfolioSimulationService {
+
+    /** Starts a background what-if run comparing the active rules with the candidate. */
+    SimulationJob start(EligibilityRules candidate);
+
+    /** Returns a job snapshot by id, if it is still retained. */
+    Optional<SimulationJob> find(String id);
+
+    /** Job progress snapshot; report is set once the run completes. */
+    record SimulationJob(
+            String id,
+            String status,
+            LocalDateTime startedAt,
+            LocalDateTime finishedAt,
+            long processed,
+            SimulationReport report,
+            String error
+    ) {}
+
+    /** Aggregate impact of the candidate rules relative to the active rules. */
+    record SimulationReport(
+            long total,
+            long decisionChanges,
+            Map<String, Long> decisionsBefore,
+            Map<String, Long> decisionsAfter,
+            Map<String, Long> transitions,
+            double avgRiskDelta,
+            double avgRateDelta,
+            double maxRateIncrease,
+            double maxRateDecrease,
+            long durationMs
+    ) {}
+}
@@ -0,0 +1,29 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.User;
+
+/**
+ * Issues, rotates and revokes refresh tokens.
+ * Refreshing is a hash lookup plus a primary-key user read; it never runs BCrypt.
+ */
+public interface RefreshTokenService {
+
+    /** Starts a new token family for a user who just logged in and returns the raw token. */
+    String issue(User user);
+
+    /**
+     * Exchanges a refresh token for its successor in the same family.
+     * Fails with 401 when the token is unknown, expired, revoked, reused, or its user is disabled;
+     * reuse of an already rotated token revokes the whole family.
+     */
+    Rotation rotate(String rawToken);
+
+    /** Revokes the family the token belongs to (logout); unknown tokens are ignored. */
+    void revoke(String rawToken);
+
+    /** Revokes every refresh token of a user and returns how many were still valid. */
+    int revokeAll(Long userId);
+
+    /** Successful rotation: the (active) user and the new raw refresh token. */
+    record Rotation(User user, String refreshToken) {}
+}
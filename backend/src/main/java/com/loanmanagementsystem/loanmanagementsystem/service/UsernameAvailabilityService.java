@@ -0,0 +1,11 @@
+package com.loanmanagementsystem.loanmanagementsystem.service;
+
+/** Answers "is this username taken" checks with as few database lookups as possible. */
+public interface UsernameAvailabilityService {
+
+    /** Returns true when no user with the given username exists. */
+    boolean isAvailable(String username);
+
+    /** Records a newly created username so later checks see it as taken. */
+    void recordUsername(String username);
+}
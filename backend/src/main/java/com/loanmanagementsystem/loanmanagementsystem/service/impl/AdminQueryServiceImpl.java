@@ -0,0 +1,51 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.User;
+import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
+import com.loanmanagementsystem.loanmanagementsystem.repository.ArchivedLoanApplicationRepository;
+import com.loanmanagementsystem.loanmanagementsystem.repository.LoanRepository;
+import com.loanmanagementsystem.loanmanagementsystem.repository.UserRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.AdminQueryService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admin listings in read-only transactions, so they can run on the replica. The counts back an
+ * ETag and are read on the primary, like the loan list.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminQueryServiceImpl implements AdminQueryService {
+
+    /** User lookups and counts. */
+    private final UserRepository userRepository;
+
+    /** Hot loan counts. */
+    private final LoanRepository loanRepository;
+
+    /** Archived loan counts. */
+    private final ArchivedLoanApplicationRepository archivedLoanRepository;
+
+    /** Returns all users or those with the given role. */
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> listUsers(UserRole role) {
+        return (role == null) ? userRepository.findAll() : userRepository.findByRole(role);
+    }
+
+    /** Counts every role and the loans in one primary transaction; the metrics ETag advances on primary commits. */
+    @Override
+    @Transactional
+    public PlatformCounts counts(boolean includeArchived) {
+        long customers = userRepository.countByRole(UserRole.CUSTOMER);
+        long analysts  = userRepository.countByRole(UserRole.ANALYST);
+        long admins    = userRepository.countByRole(UserRole.ADMIN);
+        long loans     = loanRepository.count() + (includeArchived ? archivedLoanRepository.count() : 0);
+        return new PlatformCounts(customers, analysts, admins, loans);
+    }
+}
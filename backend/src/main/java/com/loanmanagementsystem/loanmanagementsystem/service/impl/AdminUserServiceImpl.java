@@ -0,0 +1,61 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.User;
+import com.loanmanagementsystem.loanmanagementsystem.entity.UserRole;
+import com.loanmanagementsystem.loanmanagementsystem.repository.UserRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.AdminUserService;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+import com.loanmanagementsystem.loanmanagementsystem.service.RefreshTokenService;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Account updates that read and write the same locked row in one primary transaction, so a
+ * concurrent role or active change is never overwritten with a stale (replica) copy.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminUserServiceImpl implements AdminUserService {
+
+    /** User persistence access. */
+    private final UserRepository userRepository;
+
+    /** Evicts cached principals and metrics on every node when accounts change. */
+    private final InvalidationBus invalidationBus;
+
+    /** Revokes sessions of disabled accounts. */
+    private final RefreshTokenService refreshTokenService;
+
+    /** Changes the role of the locked user row. */
+    @Override
+    @Transactional
+    public User updateRole(Long id, UserRole role) {
+        User user = lock(id);
+        user.setRole(role);
+        invalidationBus.publish(ChangeEvent.user(user.getId(), user.getUsername()));
+        return user;
+    }
+
+    /** Changes the active flag of the locked user row; disabling revokes every refresh token. */
+    @Override
+    @Transactional
+    public User updateActive(Long id, boolean active) {
+        User user = lock(id);
+        user.setActive(active);
+        if (!active) refreshTokenService.revokeAll(user.getId());
+        invalidationBus.publish(ChangeEvent.user(user.getId(), user.getUsername()));
+        return user;
+    }
+
+    /** Loads and row-locks a user, or 404. */
+    private User lock(Long id) {
+        return userRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found"));
+    }
+}
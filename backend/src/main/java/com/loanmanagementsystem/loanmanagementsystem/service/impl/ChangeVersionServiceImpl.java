@@ -0,0 +1,63 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Service;
+
+import com.loanmanagementsystem.loanmanagementsystem.service.ChangeVersionService;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+
+/**
+ * In-memory monotonically increasing version counters, advanced by invalidation events.
+ * Tags include a per-process boot id so versions from different instances or restarts never collide.
+ */
+@Service
+public class ChangeVersionServiceImpl implements ChangeVersionService {
+
+    /** Distinguishes counters of this process from any other. */
+    private final String bootId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+
+    /** Loan table version. */
+    private final AtomicLong loanVersion = new AtomicLong();
+
+    /** User table version. */
+    private final AtomicLong userVersion = new AtomicLong();
+
+    /** Last loan change time (epoch millis, second precision is enough for Last-Modified). */
+    private volatile long loansModifiedAt = System.currentTimeMillis();
+
+    /** Last user change time (epoch millis). */
+    private volatile long usersModifiedAt = System.currentTimeMillis();
+
+    /** Subscribes to change events; readers behind these versions must query the primary. */
+    public ChangeVersionServiceImpl(InvalidationBus invalidationBus) {
+        invalidationBus.subscribe(this::onChange);
+    }
+
+    @Override
+    public ChangeVersion loanVersion() {
+        return new ChangeVersion("l" + bootId + "." + loanVersion.get(), loansModifiedAt);
+    }
+
+    @Override
+    public ChangeVersion metricsVersion() {
+        return new ChangeVersion(
+                "m" + bootId + "." + loanVersion.get() + "." + userVersion.get(),
+                Math.max(loansModifiedAt, usersModifiedAt)
+        );
+    }
+
+    /** Bumps the versions the event affects. */
+    private void onChange(ChangeEvent event) {
+        if (event.affectsLoans()) {
+            loanVersion.incrementAndGet();
+            loansModifiedAt = System.currentTimeMillis();
+        }
+        if (event.affectsUsers()) {
+            userVersion.incrementAndGet();
+            usersModifiedAt = System.currentTimeMillis();
+        }
+    }
+}
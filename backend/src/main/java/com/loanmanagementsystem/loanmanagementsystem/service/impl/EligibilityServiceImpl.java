@@ -1,21 +1,159 @@
 package com.loanmanagementsystem.loanmanagementsystem.service.impl;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
 
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.loanmanagementsystem.loanmanagementsystem.dto.LoanRequest;
+import com.loanmanagementsystem.loanmanagementsystem.entity.EligibilityDecision;
+import com.loanmanagementsystem.loanmanagementsystem.entity.EligibilityRuleSet;
+import com.loanmanagementsystem.loanmanagementsystem.entity.EmploymentType;
+import com.loanmanagementsystem.loanmanagementsystem.entity.RuleSetRole;
+import com.loanmanagementsystem.loanmanagementsystem.repository.EligibilityRuleSetRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityRules;
 import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityService;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.Kind;
 
-/** Rule-based eligibility scoring using credit score, DTI, and employment type. */
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Rule-based eligibility scoring using credit score, DTI, and employment type.
+ * The active and challenger rule sets are held in one immutable snapshot that is swapped whenever
+ * the stored rule sets change on any node, so a request always scores against one consistent set.
+ * Challengers run on a small bounded pool; when it is full the comparison is dropped and counted
+ * rather than slowing the request down.
+ */
+@Slf4j
 @Service
-public class EligibilityServiceImpl implements EligibilityService {
+public class EligibilityServiceImpl implements EligibilityService, SmartInitializingSingleton {
+
+    /** Name of the rule set seeded from EligibilityRules.DEFAULT. */
+    private static final String DEFAULT_NAME = "default";
+
+    /** Allowed rule set names (they appear in URLs). */
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9][A-Za-z0-9._-]{0,63}");
+
+    /** Number of eligibility outcomes, for the decision-pair matrix. */
+    private static final int DECISIONS = EligibilityDecision.values().length;
+
+    /** Stored rule sets. */
+    private final EligibilityRuleSetRepository ruleSetRepository;
+
+    /** Writes and reloads on the primary. */
+    private final TransactionTemplate tx;
+
+    /** Tells every node to reload after a change. */
+    private final InvalidationBus invalidationBus;
+
+    /** Serializes rules to and from the JSON column. */
+    private final ObjectMapper objectMapper;
+
+    /** Runs challenger scoring off the request thread. */
+    private final ThreadPoolExecutor shadowPool;
+
+    /**
+     * Runs reloads requested through the invalidation bus, so they never run inside a publishing
+     * transaction's commit callback (holding its connection) or block the invalidation listener.
+     */
+    private final ExecutorService reloader = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "rule-set-reload");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Set while a reload is queued; further changes until it starts are covered by it. */
+    private final AtomicBoolean reloadQueued = new AtomicBoolean();
+
+    /** Applications handed to the shadow pool. */
+    private final LongAdder shadowSubmitted = new LongAdder();
+
+    /** Applications not shadow-scored because the pool queue was full. */
+    private final LongAdder shadowDropped = new LongAdder();
+
+    /** Challenger evaluations that threw. */
+    private final LongAdder shadowFailed = new LongAdder();
+
+    /** Current active and challenger rules; the built-in default until the stored sets are loaded. */
+    private volatile RuleBook book = new RuleBook(DEFAULT_NAME, EligibilityRules.DEFAULT, List.of());
+
+    public EligibilityServiceImpl(
+            EligibilityRuleSetRepository ruleSetRepository,
+            PlatformTransactionManager transactionManager,
+            InvalidationBus invalidationBus,
+            ObjectMapper objectMapper,
+            @Value("${app.shadow-scoring.threads:1}") int threads,
+            @Value("${app.shadow-scoring.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.ruleSetRepository = ruleSetRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.invalidationBus = invalidationBus;
+        this.objectMapper = objectMapper;
+
+        AtomicInteger threadIds = new AtomicInteger();
+        this.shadowPool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread t = new Thread(r, "eligibility-shadow-" + threadIds.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                });
+        invalidationBus.subscribe(this::onChange);
+    }
+
+    /** Seeds the default rule set on first start and loads the stored sets before traffic arrives. */
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            seedDefault();
+        } catch (DataIntegrityViolationException e) {
+            // Another instance seeded it at the same time.
+        } catch (RuntimeException e) {
+            log.warn("Could not seed the default rule set: {}", e.getMessage());
+        }
+        reload();
+    }
 
     /** Computes DTI, risk score, decision, and an interest rate estimate. */
     @Override
     public EligibilityResult evaluate(LoanRequest req) {
-        double income = Optional.ofNullable(req.getMonthlyIncome()).orElse(0.0);
-        double debt   = Optional.ofNullable(req.getMonthlyDebt()).orElse(0.0);
+        return evaluate(req, book.active());
+    }
+
+    /** Same scoring as {@link #evaluate(LoanRequest)} with explicit thresholds; side-effect free. */
+    @Override
+    public EligibilityResult evaluate(LoanRequest req, EligibilityRules rules) {
+        double income = Optional.ofNullable(req.getMonthlyIncome()).map(BigDecimal::doubleValue).orElse(0.0);
+        double debt   = Optional.ofNullable(req.getMonthlyDebt()).map(BigDecimal::doubleValue).orElse(0.0);
         int credit    = Optional.ofNullable(req.getCreditScore()).orElse(0);
 
         double dti = (income <= 0) ? 1.0 : (debt / income);
@@ -23,40 +161,369 @@ public class EligibilityServiceImpl implements EligibilityService {
         int risk = 0;
 
         // Credit score impact
-        if (credit >= 760) risk += 10;
-        else if (credit >= 700) risk += 25;
-        else if (credit >= 650) risk += 45;
-        else risk += 70;
+        if (credit >= rules.excellentCredit()) risk += rules.excellentCreditRisk();
+        else if (credit >= rules.goodCredit()) risk += rules.goodCreditRisk();
+        else if (credit >= rules.fairCredit()) risk += rules.fairCreditRisk();
+        else risk += rules.poorCreditRisk();
 
         // DTI impact
-        if (dti <= 0.25) risk += 5;
-        else if (dti <= 0.35) risk += 15;
-        else if (dti <= 0.50) risk += 35;
-        else risk += 55;
+        if (dti <= rules.lowDti()) risk += rules.lowDtiRisk();
+        else if (dti <= rules.moderateDti()) risk += rules.moderateDtiRisk();
+        else if (dti <= rules.highDti()) risk += rules.highDtiRisk();
+        else risk += rules.excessiveDtiRisk();
 
         // Employment impact
-        switch (safe(req.getEmploymentType())) {
-        case "SALARIED" -> risk += 5;
-        case "SELF_EMPLOYED" -> risk += 15;
-        case "STUDENT" -> risk += 25;
-        default -> risk += 35;
-        }
+        EmploymentType employment = EmploymentType.fromText(req.getEmploymentType());
+        risk += (employment == null)
+                ? rules.otherEmploymentRisk()
+                : rules.employmentRisk().getOrDefault(employment.name(), rules.otherEmploymentRisk());
 
         risk = Math.min(100, Math.max(0, risk));
 
-        String decision;
-        if (credit < 600 || dti > 0.60) decision = "REJECT";
-        else if (credit < 680 || dti > 0.45) decision = "REVIEW";
-        else decision = "ELIGIBLE";
+        EligibilityDecision decision;
+        if (credit < rules.rejectBelowCredit() || dti > rules.rejectAboveDti()) decision = EligibilityDecision.REJECT;
+        else if (credit < rules.reviewBelowCredit() || dti > rules.reviewAboveDti()) decision = EligibilityDecision.REVIEW;
+        else decision = EligibilityDecision.ELIGIBLE;
 
-        double rate = 8.5 + (risk * 0.05);
+        double rate = rules.baseRate() + (risk * rules.ratePerRiskPoint());
         rate = Math.round(rate * 10.0) / 10.0;
 
         return new EligibilityResult(dti, risk, decision, rate);
     }
 
-    /** Null-safe normalization used for string comparisons. */
-    private String safe(String v) {
-        return v == null ? "" : v.trim().toUpperCase();
+    /**
+     * Scores with the active rules, then queues the same inputs for the challengers of the same
+     * snapshot; queueing never blocks, so challengers add no latency to the request.
+     */
+    @Override
+    public EligibilityResult decide(LoanRequest req) {
+        RuleBook current = book;
+        EligibilityResult result = evaluate(req, current.active());
+        if (current.challengers().isEmpty()) return result;
+
+        LoanRequest input = scoringCopy(req);
+        shadowSubmitted.increment();
+        try {
+            shadowPool.execute(() -> {
+                for (Challenger challenger : current.challengers()) {
+                    try {
+                        challenger.tally().add(result, evaluate(input, challenger.rules()));
+                    } catch (RuntimeException e) {
+                        shadowFailed.increment();
+                    }
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            shadowDropped.increment();
+        }
+        return result;
+    }
+
+    /** Rules applied to live applications. */
+    @Override
+    public EligibilityRules currentRules() {
+        return book.active();
+    }
+
+    /** Lists stored rule sets. */
+    @Override
+    public List<RuleSetView> ruleSets() {
+        return tx.execute(status -> ruleSetRepository.findAllByOrderByNameAsc().stream().map(this::view).toList());
+    }
+
+    /**
+     * Creates or updates a rule set; every node reloads once the change commits. Rules that would be
+     * ignored on reload (inconsistent, or not readable back from storage) are rejected with 400.
+     */
+    @Override
+    public RuleSetView saveRuleSet(String name, EligibilityRules rules, String actor) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Rule set names use letters, digits, '.', '_' and '-' (max 64)");
+        }
+        String problem = problem(rules);
+        if (problem != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid rule set: " + problem);
+        }
+        String json = objectMapper.writeValueAsString(rules);
+
+        return tx.execute(status -> {
+            EligibilityRuleSet set = ruleSetRepository.findById(name).orElseGet(() -> {
+                EligibilityRuleSet created = new EligibilityRuleSet();
+                created.setName(name);
+                created.setRole(RuleSetRole.INACTIVE);
+                return created;
+            });
+            set.setRules(json);
+            if (parse(set) == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid rule set: it cannot be read back");
+            }
+            set.setUpdatedAt(LocalDateTime.now());
+            set.setUpdatedBy(actor);
+            ruleSetRepository.save(set);
+            invalidationBus.publish(ChangeEvent.rulesChanged(name));
+            return view(set);
+        });
+    }
+
+    /**
+     * Changes a role; there is always exactly one active set, so the active one can only be replaced.
+     * Only rules that parse can become ACTIVE or CHALLENGER (400 otherwise), since reload skips the rest.
+     */
+    @Override
+    public RuleSetView changeRole(String name, RuleSetRole role, String actor) {
+        try {
+            return tx.execute(status -> {
+                EligibilityRuleSet set = ruleSetRepository.findById(name)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Rule set not found"));
+                if (set.getRole() == role) return view(set);
+                if (set.getRole() == RuleSetRole.ACTIVE) {
+                    throw new ResponseStatusException(HttpStatus.CONFLICT, "Activate another rule set instead");
+                }
+                if (role != RuleSetRole.INACTIVE && parse(set) == null) {
+                    throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Rule set '" + name + "' is not valid; save a corrected version first");
+                }
+
+                LocalDateTime now = LocalDateTime.now();
+                if (role == RuleSetRole.ACTIVE) {
+                    // Demote first: the partial unique index allows only one ACTIVE row at a time.
+                    ruleSetRepository.findFirstByRole(RuleSetRole.ACTIVE).ifPresent(previous -> {
+                        previous.setRole(RuleSetRole.INACTIVE);
+                        previous.setUpdatedAt(now);
+                        previous.setUpdatedBy(actor);
+                        ruleSetRepository.saveAndFlush(previous);
+                    });
+                }
+                set.setRole(role);
+                set.setUpdatedAt(now);
+                set.setUpdatedBy(actor);
+                ruleSetRepository.save(set);
+                invalidationBus.publish(ChangeEvent.rulesChanged(name));
+                return view(set);
+            });
+        } catch (DataIntegrityViolationException e) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Rule sets were changed concurrently; retry");
+        }
+    }
+
+    /** Deletes an inactive or challenger rule set. */
+    @Override
+    public void deleteRuleSet(String name) {
+        tx.executeWithoutResult(status -> {
+            EligibilityRuleSet set = ruleSetRepository.findById(name)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Rule set not found"));
+            if (set.getRole() == RuleSetRole.ACTIVE) {
+                throw new ResponseStatusException(HttpStatus.CONFLICT, "The active rule set cannot be deleted");
+            }
+            ruleSetRepository.delete(set);
+            invalidationBus.publish(ChangeEvent.rulesChanged(name));
+        });
+    }
+
+    /** Snapshot of this instance's shadow-scoring counters. */
+    @Override
+    public ShadowReport shadowReport() {
+        RuleBook current = book;
+        return new ShadowReport(
+                current.activeName(),
+                shadowSubmitted.sum(),
+                shadowDropped.sum(),
+                shadowFailed.sum(),
+                shadowPool.getQueue().size(),
+                current.challengers().stream().map(c -> c.tally().stats(c.name())).toList());
+    }
+
+    /** Starts every challenger's comparison afresh. */
+    @Override
+    public synchronized void resetShadowStats() {
+        RuleBook current = book;
+        book = new RuleBook(current.activeName(), current.active(), current.challengers().stream()
+                .map(c -> new Challenger(c.name(), c.rules(), new Tally()))
+                .toList());
+        shadowSubmitted.reset();
+        shadowDropped.reset();
+        shadowFailed.reset();
+    }
+
+    /** Stops challenger scoring and reloads on shutdown. */
+    @PreDestroy
+    public void shutdown() {
+        shadowPool.shutdownNow();
+        reloader.shutdownNow();
+    }
+
+    /** Queues a reload on rule set changes from any node, and after missed events. */
+    private void onChange(ChangeEvent event) {
+        if ((event.kind() == Kind.RULES_CHANGED || event.kind() == Kind.FLUSH) && reloadQueued.compareAndSet(false, true)) {
+            reloader.execute(() -> {
+                reloadQueued.set(false);
+                reload();
+            });
+        }
+    }
+
+    /** Stores the built-in rules as the active set when no set is active yet. */
+    private void seedDefault() {
+        tx.executeWithoutResult(status -> {
+            if (ruleSetRepository.findFirstByRole(RuleSetRole.ACTIVE).isPresent()) return;
+
+            EligibilityRuleSet set = ruleSetRepository.findById(DEFAULT_NAME).orElseGet(() -> {
+                EligibilityRuleSet created = new EligibilityRuleSet();
+                created.setName(DEFAULT_NAME);
+                created.setRules(objectMapper.writeValueAsString(EligibilityRules.DEFAULT));
+                return created;
+            });
+            set.setRole(RuleSetRole.ACTIVE);
+            set.setUpdatedAt(LocalDateTime.now());
+            ruleSetRepository.save(set);
+        });
+    }
+
+    /**
+     * Rebuilds the snapshot from the primary. Challenger results carry over only while both the
+     * challenger's and the active rules are unchanged, so each tally compares one fixed pair.
+     * On failure the previous snapshot stays in place until the next change or flush.
+     */
+    private synchronized void reload() {
+        List<EligibilityRuleSet> sets;
+        try {
+            sets = tx.execute(status -> ruleSetRepository.findAllByOrderByNameAsc());
+        } catch (RuntimeException e) {
+            log.warn("Could not reload eligibility rule sets, keeping '{}': {}", book.activeName(), e.getMessage());
+            return;
+        }
+
+        RuleBook previous = book;
+        String activeName = null;
+        EligibilityRules active = null;
+        List<EligibilityRuleSet> challengerSets = new ArrayList<>();
+        for (EligibilityRuleSet set : sets) {
+            if (set.getRole() == RuleSetRole.ACTIVE) {
+                active = parse(set);
+                activeName = set.getName();
+            } else if (set.getRole() == RuleSetRole.CHALLENGER) {
+                challengerSets.add(set);
+            }
+        }
+        if (active == null) {
+            log.warn("No usable active eligibility rule set stored, keeping '{}'", previous.activeName());
+            activeName = previous.activeName();
+            active = previous.active();
+        }
+
+        boolean sameActive = active.equals(previous.active());
+        List<Challenger> challengers = new ArrayList<>();
+        for (EligibilityRuleSet set : challengerSets) {
+            EligibilityRules rules = parse(set);
+            if (rules == null) continue;
+            Tally tally = previous.challengers().stream()
+                    .filter(c -> sameActive && c.name().equals(set.getName()) && c.rules().equals(rules))
+                    .map(Challenger::tally)
+                    .findFirst()
+                    .orElseGet(Tally::new);
+            challengers.add(new Challenger(set.getName(), rules, tally));
+        }
+
+        book = new RuleBook(activeName, active, List.copyOf(challengers));
+        if (!activeName.equals(previous.activeName())) log.info("Eligibility rule set '{}' is now active", activeName);
+    }
+
+    /** Parses stored rules; null (and a warning) when the JSON no longer matches the record or the rules are inconsistent. */
+    private EligibilityRules parse(EligibilityRuleSet set) {
+        try {
+            EligibilityRules rules = objectMapper.readValue(set.getRules(), EligibilityRules.class);
+            String problem = problem(rules);
+            if (problem == null) return rules;
+            log.warn("Ignoring eligibility rule set '{}': {}", set.getName(), problem);
+        } catch (JacksonException e) {
+            log.warn("Ignoring unreadable eligibility rule set '{}'", set.getName());
+        }
+        return null;
+    }
+
+    /** Why rules cannot be used for scoring, or null when they can. */
+    private static String problem(EligibilityRules rules) {
+        if (rules.employmentRisk() == null || rules.employmentRisk().values().stream().anyMatch(Objects::isNull)) {
+            return "employmentRisk must map every listed type to a risk";
+        }
+        if (rules.excellentCredit() < rules.goodCredit() || rules.goodCredit() < rules.fairCredit()) {
+            return "credit bands must satisfy excellentCredit >= goodCredit >= fairCredit";
+        }
+        if (rules.lowDti() > rules.moderateDti() || rules.moderateDti() > rules.highDti()) {
+            return "DTI bands must satisfy lowDti <= moderateDti <= highDti";
+        }
+        if (rules.baseRate() < 0 || rules.ratePerRiskPoint() < 0) {
+            return "rates must not be negative";
+        }
+        return null;
+    }
+
+    /** API view of a stored set. */
+    private RuleSetView view(EligibilityRuleSet set) {
+        return new RuleSetView(set.getName(), set.getRole(), parse(set), set.getUpdatedAt(), set.getUpdatedBy());
+    }
+
+    /** Copies the fields scoring reads, so the request object is not shared with the shadow pool. */
+    private static LoanRequest scoringCopy(LoanRequest req) {
+        LoanRequest copy = new LoanRequest();
+        copy.setMonthlyIncome(req.getMonthlyIncome());
+        copy.setMonthlyDebt(req.getMonthlyDebt());
+        copy.setCreditScore(req.getCreditScore());
+        copy.setEmploymentType(req.getEmploymentType());
+        return copy;
+    }
+
+    /** Immutable scoring snapshot: the active rules and the challengers compared against them. */
+    private record RuleBook(String activeName, EligibilityRules active, List<Challenger> challengers) {}
+
+    /** A challenger and its running comparison with the active rules. */
+    private record Challenger(String name, EligibilityRules rules, Tally tally) {}
+
+    /** Lock-free counters for one challenger. */
+    private static final class Tally {
+
+        /** When this comparison started. */
+        private final LocalDateTime since = LocalDateTime.now();
+
+        /** Counts by active decision (row) and challenger decision (column). */
+        private final AtomicLongArray pairs = new AtomicLongArray(DECISIONS * DECISIONS);
+
+        /** Sum of challenger minus active risk scores. */
+        private final LongAdder riskDelta = new LongAdder();
+
+        /** Sum of challenger minus active rates. */
+        private final DoubleAdder rateDelta = new DoubleAdder();
+
+        /** Records one application scored by both. */
+        void add(EligibilityResult active, EligibilityResult challenger) {
+            pairs.incrementAndGet(active.decision().ordinal() * DECISIONS + challenger.decision().ordinal());
+            riskDelta.add(challenger.riskScore() - active.riskScore());
+            rateDelta.add(challenger.recommendedRate() - active.recommendedRate());
+        }
+
+        /** Current totals; concurrent adds may be partly included. */
+        ChallengerStats stats(String name) {
+            Map<EligibilityDecision, Map<EligibilityDecision, Long>> decisions = new EnumMap<>(EligibilityDecision.class);
+            long evaluated = 0;
+            long disagreements = 0;
+            for (EligibilityDecision active : EligibilityDecision.values()) {
+                Map<EligibilityDecision, Long> row = new EnumMap<>(EligibilityDecision.class);
+                for (EligibilityDecision challenger : EligibilityDecision.values()) {
+                    long count = pairs.get(active.ordinal() * DECISIONS + challenger.ordinal());
+                    row.put(challenger, count);
+                    evaluated += count;
+                    if (active != challenger) disagreements += count;
+                }
+                decisions.put(active, row);
+            }
+            return new ChallengerStats(
+                    name,
+                    since,
+                    evaluated,
+                    disagreements,
+                    (evaluated == 0) ? 0.0 : (double) disagreements / evaluated,
+                    decisions,
+                    (evaluated == 0) ? 0.0 : (double) riskDelta.sum() / evaluated,
+                    (evaluated == 0) ? 0.0 : rateDelta.sum() / evaluated);
+        }
     }
 }
@@ -0,0 +1,102 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
+import com.loanmanagementsystem.loanmanagementsystem.repository.ArchivedLoanApplicationRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanArchiveService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batched background archival: each batch moves rows with one delete-returning/insert statement,
+ * in its own short transaction so locks are never held across batches.
+ */
+@Slf4j
+@Service
+public class LoanArchiveServiceImpl implements LoanArchiveService {
+
+    /** Only loans in a final state are archived (stored status codes). */
+    private static final List<Short> DECIDED = List.of(LoanStatus.APPROVED.code(), LoanStatus.REJECTED.code());
+
+    /** Moves rows from the hot table into the archive. */
+    private final ArchivedLoanApplicationRepository archivedLoanRepository;
+
+    /** Invalidates cached loan lists after rows move. */
+    private final InvalidationBus invalidationBus;
+
+    /** One transaction per batch. */
+    private final TransactionTemplate batchTx;
+
+    /** Whether the scheduled job runs. */
+    private final boolean enabled;
+
+    /** Decided loans older than this many days are archived. */
+    private final int retentionDays;
+
+    /** Rows moved per batch. */
+    private final int batchSize;
+
+    /** Upper bound on batches per run to cap the load of a single run. */
+    private final int maxBatchesPerRun;
+
+    public LoanArchiveServiceImpl(
+            ArchivedLoanApplicationRepository archivedLoanRepository,
+            InvalidationBus invalidationBus,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.archive.enabled:false}") boolean enabled,
+            @Value("${app.archive.retention-days:90}") int retentionDays,
+            @Value("${app.archive.batch-size:1000}") int batchSize,
+            @Value("${app.archive.max-batches-per-run:100}") int maxBatchesPerRun
+    ) {
+        this.archivedLoanRepository = archivedLoanRepository;
+        this.invalidationBus = invalidationBus;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+    }
+
+    /** Periodic run; disabled unless app.archive.enabled=true. */
+    @Scheduled(fixedDelayString = "${app.archive.interval-ms:3600000}",
+               initialDelayString = "${app.archive.initial-delay-ms:60000}")
+    public void scheduledRun() {
+        if (enabled) archiveDecidedLoans();
+    }
+
+    @Override
+    public int archiveDecidedLoans() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusDays(retentionDays);
+
+        int moved = 0;
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            Integer count = batchTx.execute(s -> moveBatch(cutoff, now));
+            if (count == null || count == 0) break;
+
+            moved += count;
+            if (count < batchSize) break;
+        }
+
+        if (moved > 0) {
+            invalidationBus.publish(ChangeEvent.loansChanged());
+            log.info("Archived {} decided loan applications created before {}", moved, cutoff);
+        }
+        return moved;
+    }
+
+    /** Moves one batch; runs inside the batch transaction. */
+    private int moveBatch(LocalDateTime cutoff, LocalDateTime archivedAt) {
+        return archivedLoanRepository.moveFromHot(DECIDED, cutoff, batchSize, archivedAt);
+    }
+}
@@ -0,0 +1,324 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanDecisionAudit;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
+import com.loanmanagementsystem.loanmanagementsystem.repository.LoanDecisionAuditRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanAuditService;
+import com.loanmanagementsystem.loanmanagementsystem.util.MpscRingBuffer;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Group-commit audit writer.
+ * Request threads publish entries into a lock-free ring buffer; a single writer thread drains it
+ * every flush interval, or as soon as a full batch is waiting, and writes each drain with one JDBC
+ * batch insert in one transaction. A failed batch is retried a bounded number of times, then split
+ * in halves so one bad entry cannot hold back the rest; an entry that still fails on its own is
+ * dropped and logged in full. A full buffer pushes back on decision requests for at most the put
+ * timeout: SYNC requests then fail with 503, ASYNC entries are dropped and counted.
+ * The writer uses its own small connection pool (auditDataSource): SYNC callers wait after commit
+ * while their transaction's connection is still bound, and must not hold the connections the
+ * writer needs to release them.
+ */
+@Slf4j
+@Service
+public class LoanAuditServiceImpl implements LoanAuditService {
+
+    /** Insert used for every batch. */
+    private static final String INSERT_SQL = """
+            insert into loan_decision_audit (loan_id, from_status, to_status, actor, reason, decided_at)
+            values (?, ?, ?, ?, ?, ?)
+            """;
+
+    /** Longest retry backoff after a failed batch. */
+    private static final long MAX_RETRY_BACKOFF_MS = 1000;
+
+    /** Pending entries. */
+    private final MpscRingBuffer<Entry> buffer;
+
+    /** Batch inserts on the audit pool. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** One transaction per batch, on the audit pool. */
+    private final TransactionTemplate batchTx;
+
+    /** Read access for the per-loan endpoint. */
+    private final LoanDecisionAuditRepository auditRepository;
+
+    /** Whether callers wait for their entries to be written. */
+    private final Durability durability;
+
+    /** Longest time between a write and its flush. */
+    private final long flushIntervalNanos;
+
+    /** Entries that trigger an early flush, and the most written per batch. */
+    private final int batchSize;
+
+    /** How long SYNC callers wait before reporting the audit as unconfirmed. */
+    private final long syncTimeoutMs;
+
+    /** How long a producer waits for space in a full buffer. */
+    private final long putTimeoutNanos;
+
+    /** Attempts per batch before it is split (or, for a single entry, dropped). */
+    private final int maxAttempts;
+
+    /** Writer thread. */
+    private final Thread writer;
+
+    /** Cleared on shutdown; the writer drains everything still queued before exiting. */
+    private volatile boolean running = true;
+
+    /** Metrics. */
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong producerWaits = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public LoanAuditServiceImpl(
+            @Qualifier("auditDataSource") DataSource auditDataSource,
+            LoanDecisionAuditRepository auditRepository,
+            @Value("${app.audit.durability:SYNC}") Durability durability,
+            @Value("${app.audit.buffer-size:8192}") int bufferSize,
+            @Value("${app.audit.batch-size:256}") int batchSize,
+            @Value("${app.audit.flush-interval-ms:5}") long flushIntervalMs,
+            @Value("${app.audit.sync-timeout-ms:5000}") long syncTimeoutMs,
+            @Value("${app.audit.put-timeout-ms:1000}") long putTimeoutMs,
+            @Value("${app.audit.max-attempts:5}") int maxAttempts
+    ) {
+        this.buffer = new MpscRingBuffer<>(bufferSize);
+        this.jdbcTemplate = new JdbcTemplate(auditDataSource);
+        this.batchTx = new TransactionTemplate(new DataSourceTransactionManager(auditDataSource));
+        this.auditRepository = auditRepository;
+        this.durability = durability;
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.syncTimeoutMs = syncTimeoutMs;
+        this.putTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(putTimeoutMs);
+        this.maxAttempts = Math.max(1, maxAttempts);
+
+        this.writer = new Thread(this::writeLoop, "decision-audit-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void recordDecision(Long loanId, LoanStatus from, LoanStatus to, String actor, String reason) {
+        recordDecisions(List.of(loanId), from, to, actor, reason);
+    }
+
+    /** Entries are queued after commit so rolled-back decisions are never audited. */
+    @Override
+    public void recordDecisions(Collection<Long> loanIds, LoanStatus from, LoanStatus to, String actor, String reason) {
+        if (loanIds.isEmpty()) return;
+        List<Long> ids = List.copyOf(loanIds);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(ids, from, to, actor, reason);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                enqueue(ids, from, to, actor, reason);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<LoanDecisionAudit> findByLoan(Long loanId) {
+        return auditRepository.findByLoanIdOrderByIdAsc(loanId);
+    }
+
+    @Override
+    public AuditStats stats() {
+        return new AuditStats(durability, buffer.size(), buffer.capacity(),
+                written.get(), batches.get(), failedBatches.get(), producerWaits.get(), dropped.get());
+    }
+
+    /** Stops the writer after it has flushed everything still queued. */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    /** Publishes entries and, in SYNC mode, waits until the writer has committed them. */
+    private void enqueue(List<Long> ids, LoanStatus from, LoanStatus to, String actor, String reason) {
+        LocalDateTime decidedAt = LocalDateTime.now();
+        boolean sync = durability == Durability.SYNC;
+
+        List<CompletableFuture<Void>> futures = sync ? new ArrayList<>(ids.size()) : List.of();
+        for (Long id : ids) {
+            CompletableFuture<Void> written = sync ? new CompletableFuture<>() : null;
+            if (!put(new Entry(id, from, to, actor, reason, decidedAt, written))) {
+                if (sync) {
+                    throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Decision saved; audit log is backed up");
+                }
+                dropped.incrementAndGet();
+                log.error("Decision audit buffer full for {} ms, dropped entry: loan {} {} -> {} by {} at {}",
+                        TimeUnit.NANOSECONDS.toMillis(putTimeoutNanos), id, from, to, actor, decidedAt);
+                continue;
+            }
+            if (sync) futures.add(written);
+        }
+
+        if (sync) {
+            // Do not sit out the flush interval: the caller is blocked on this batch.
+            LockSupport.unpark(writer);
+            await(CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)));
+        } else if (buffer.size() >= batchSize) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Offers until accepted or the put timeout passes; a full buffer means the writer is behind,
+     * so wake it and back off. Returns false when the entry was not queued.
+     */
+    private boolean put(Entry entry) {
+        if (buffer.offer(entry)) return true;
+
+        producerWaits.incrementAndGet();
+        long deadline = System.nanoTime() + putTimeoutNanos;
+        do {
+            if (System.nanoTime() - deadline >= 0) return false;
+            LockSupport.unpark(writer);
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        } while (!buffer.offer(entry));
+        return true;
+    }
+
+    /** Waits for a SYNC write; the decision is already committed, so failure is reported, not rolled back. */
+    private void await(CompletableFuture<Void> done) {
+        try {
+            done.get(syncTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Decision saved; audit write not confirmed");
+        } catch (ExecutionException | TimeoutException e) {
+            log.error("Decision audit write not confirmed within {} ms", syncTimeoutMs);
+            throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Decision saved; audit write not confirmed");
+        }
+    }
+
+    /** Parks until the flush interval passes or a producer signals, then writes what is queued. */
+    private void writeLoop() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+
+        while (running || buffer.size() > 0) {
+            if (buffer.size() == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+                continue;
+            }
+
+            buffer.drainTo(batch, batchSize);
+            if (batch.isEmpty()) {
+                // A producer claimed a slot but has not published it yet; let it run.
+                Thread.yield();
+                continue;
+            }
+
+            writeWithRetry(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Writes one batch, retrying with backoff up to maxAttempts. A batch that still fails is split in
+     * halves and each half written the same way, isolating entries the database rejects; a single
+     * entry that fails every attempt is dropped and logged. At shutdown failures are not retried.
+     */
+    private void writeWithRetry(List<Entry> batch) {
+        long backoffMs = 10;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                batchTx.executeWithoutResult(s -> jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, e) -> {
+                    ps.setLong(1, e.loanId());
+                    ps.setString(2, (e.from() == null) ? null : e.from().name());
+                    ps.setString(3, e.to().name());
+                    ps.setString(4, e.actor());
+                    ps.setString(5, e.reason());
+                    ps.setTimestamp(6, Timestamp.valueOf(e.decidedAt()));
+                }));
+
+                written.addAndGet(batch.size());
+                batches.incrementAndGet();
+                batch.forEach(e -> { if (e.written() != null) e.written().complete(null); });
+                return;
+            } catch (RuntimeException ex) {
+                failedBatches.incrementAndGet();
+                if (!running) {
+                    log.error("Dropping {} decision audit entries at shutdown: {}", batch.size(), ex.getMessage());
+                    drop(batch, ex);
+                    return;
+                }
+                if (attempt >= maxAttempts) {
+                    if (batch.size() == 1) {
+                        drop(batch, ex);
+                    } else {
+                        log.warn("Decision audit batch of {} failed {} times, splitting: {}", batch.size(), attempt, ex.getMessage());
+                        int half = batch.size() / 2;
+                        writeWithRetry(batch.subList(0, half));
+                        writeWithRetry(batch.subList(half, batch.size()));
+                    }
+                    return;
+                }
+                log.warn("Decision audit batch of {} failed, retrying in {} ms: {}", batch.size(), backoffMs, ex.getMessage());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs));
+                backoffMs = Math.min(backoffMs * 2, MAX_RETRY_BACKOFF_MS);
+            }
+        }
+    }
+
+    /** Gives up on entries: logs each in full so it can be replayed, counts it, and fails SYNC waiters. */
+    private void drop(List<Entry> entries, RuntimeException cause) {
+        for (Entry e : entries) {
+            log.error("Dropped decision audit entry: loan {} {} -> {} by {} at {} ({}): {}",
+                    e.loanId(), e.from(), e.to(), e.actor(), e.decidedAt(), e.reason(), cause.getMessage());
+            if (e.written() != null) e.written().completeExceptionally(cause);
+        }
+        dropped.addAndGet(entries.size());
+    }
+
+    /** Queued decision; written is completed once the entry is committed (SYNC only). */
+    private record Entry(
+            Long loanId,
+            LoanStatus from,
+            LoanStatus to,
+            String actor,
+            String reason,
+            LocalDateTime decidedAt,
+            CompletableFuture<Void> written
+    ) {}
+}
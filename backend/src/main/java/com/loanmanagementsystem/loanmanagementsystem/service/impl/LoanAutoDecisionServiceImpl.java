@@ -0,0 +1,186 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.EligibilityDecision;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
+import com.loanmanagementsystem.loanmanagementsystem.repository.LoanRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanAuditService;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanAutoDecisionService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Batched, set-based auto-decisioning.
+ * Each batch locks matching rows with FOR UPDATE SKIP LOCKED (so nodes and analysts never block
+ * each other) and moves them with one UPDATE, in its own short transaction. Loans claimed by an
+ * analyst are left alone. A per-run cap bounds the write load of a single pass.
+ */
+@Slf4j
+@Service
+public class LoanAutoDecisionServiceImpl implements LoanAutoDecisionService {
+
+    /** Audit actor for automated decisions. */
+    private static final String ACTOR = "system:auto-decision";
+
+    /** Number of run reports kept for lookup. */
+    private static final int RETAINED_RUNS = 20;
+
+    /** Loan persistence access. */
+    private final LoanRepository loanRepository;
+
+    /** Announces decided batches so caches and versions are invalidated. */
+    private final InvalidationBus invalidationBus;
+
+    /** Records each automated decision. */
+    private final LoanAuditService loanAuditService;
+
+    /** One transaction per batch. */
+    private final TransactionTemplate batchTx;
+
+    /** Whether the scheduled job runs. */
+    private final boolean enabled;
+
+    /** ELIGIBLE loans with a risk score at or below this are approved. */
+    private final int approveMaxRisk;
+
+    /** Whether hard REJECT scores are rejected automatically. */
+    private final boolean rejectEnabled;
+
+    /** Rows moved per batch. */
+    private final int batchSize;
+
+    /** Upper bound on loans decided per run. */
+    private final int maxPerRun;
+
+    /** Keeps manual and scheduled runs on this node from overlapping. */
+    private final ReentrantLock running = new ReentrantLock();
+
+    /** Recent run reports, newest first. */
+    private final Deque<AutoDecisionRun> runs = new ArrayDeque<>();
+
+    public LoanAutoDecisionServiceImpl(
+            LoanRepository loanRepository,
+            InvalidationBus invalidationBus,
+            LoanAuditService loanAuditService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.auto-decision.enabled:false}") boolean enabled,
+            @Value("${app.auto-decision.approve-max-risk:40}") int approveMaxRisk,
+            @Value("${app.auto-decision.reject-enabled:true}") boolean rejectEnabled,
+            @Value("${app.auto-decision.batch-size:500}") int batchSize,
+            @Value("${app.auto-decision.max-per-run:5000}") int maxPerRun
+    ) {
+        this.loanRepository = loanRepository;
+        this.invalidationBus = invalidationBus;
+        this.loanAuditService = loanAuditService;
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.approveMaxRisk = approveMaxRisk;
+        this.rejectEnabled = rejectEnabled;
+        this.batchSize = batchSize;
+        this.maxPerRun = maxPerRun;
+    }
+
+    /** Periodic run; disabled unless app.auto-decision.enabled=true. */
+    @Scheduled(fixedDelayString = "${app.auto-decision.interval-ms:60000}",
+               initialDelayString = "${app.auto-decision.initial-delay-ms:30000}")
+    public void scheduledRun() {
+        if (enabled) runOnce("scheduled");
+    }
+
+    @Override
+    public Optional<AutoDecisionRun> runOnce(String trigger) {
+        if (!running.tryLock()) return Optional.empty();
+        try {
+            AutoDecisionRun run = execute(trigger);
+            synchronized (runs) {
+                runs.addFirst(run);
+                if (runs.size() > RETAINED_RUNS) runs.removeLast();
+            }
+            return Optional.of(run);
+        } finally {
+            running.unlock();
+        }
+    }
+
+    @Override
+    public List<AutoDecisionRun> recentRuns() {
+        synchronized (runs) {
+            return new ArrayList<>(runs);
+        }
+    }
+
+    /** Approves first, then rejects, until nothing matches or the run cap is reached. */
+    private AutoDecisionRun execute(String trigger) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long approved = 0;
+        long rejected = 0;
+        int batches = 0;
+        String error = null;
+
+        try {
+            while (approved + rejected < maxPerRun) {
+                int moved = moveBatch(EligibilityDecision.ELIGIBLE, approveMaxRisk, LoanStatus.APPROVED, remaining(approved, rejected),
+                        "ELIGIBLE, risk <= " + approveMaxRisk);
+                if (moved == 0) break;
+                approved += moved;
+                batches++;
+            }
+
+            while (rejectEnabled && approved + rejected < maxPerRun) {
+                int moved = moveBatch(EligibilityDecision.REJECT, Integer.MAX_VALUE, LoanStatus.REJECTED, remaining(approved, rejected),
+                        "REJECT score");
+                if (moved == 0) break;
+                rejected += moved;
+                batches++;
+            }
+        } catch (RuntimeException e) {
+            // Committed batches stay decided; the next run picks up where this one stopped.
+            log.warn("Auto-decision run failed after {} batches: {}", batches, e.getMessage());
+            error = e.getMessage();
+        }
+
+        boolean capped = approved + rejected >= maxPerRun;
+        if (approved + rejected > 0) {
+            log.info("Auto-decided {} approved / {} rejected loan applications in {} batches{}",
+                    approved, rejected, batches, capped ? " (run cap reached)" : "");
+        }
+        return new AutoDecisionRun(trigger, startedAt, LocalDateTime.now(),
+                approved, rejected, batches, capped, error);
+    }
+
+    /** Rows the next batch may move without exceeding the run cap. */
+    private int remaining(long approved, long rejected) {
+        return (int) Math.min(batchSize, maxPerRun - approved - rejected);
+    }
+
+    /** Locks and decides one batch in its own transaction; returns how many loans moved. */
+    private int moveBatch(EligibilityDecision eligibilityDecision, int maxRisk, LoanStatus target, int limit, String reason) {
+        Integer moved = batchTx.execute(s -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<Long> ids = loanRepository.lockAutoDecidable(
+                    LoanStatus.SUBMITTED.code(), eligibilityDecision.code(), maxRisk, now, limit);
+            if (ids.isEmpty()) return 0;
+
+            int updated = loanRepository.updateStatus(ids, target);
+            invalidationBus.publish(ChangeEvent.loansChanged());
+            loanAuditService.recordDecisions(ids, LoanStatus.SUBMITTED, target, ACTOR, reason);
+            return updated;
+        });
+        return (moved == null) ? 0 : moved;
+    }
+}
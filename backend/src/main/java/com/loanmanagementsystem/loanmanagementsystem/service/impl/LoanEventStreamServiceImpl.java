@@ -0,0 +1,250 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.User;
+import com.loanmanagementsystem.loanmanagementsystem.repository.UserRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanEventStreamService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SSE fan-out fed by the invalidation bus, so clients on every node see changes made anywhere.
+ * Streams use async servlet requests and hold no thread while idle. Each client has a small
+ * bounded queue drained by a small sender pool only while it has messages; a client whose queue
+ * overflows is too slow to keep up and is disconnected (it reconnects and refetches).
+ */
+@Slf4j
+@Service
+public class LoanEventStreamServiceImpl implements LoanEventStreamService {
+
+    /** Resolves a customer's user id for ownership filtering. */
+    private final UserRepository userRepository;
+
+    /** Connected clients. */
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /** Runs queue drains; a send blocked on a slow socket holds one sender until its queue overflows. */
+    private final ExecutorService senders;
+
+    /** Messages buffered per client before it counts as a slow consumer. */
+    private final int bufferSize;
+
+    /** Stream lifetime; clients reconnect after it. */
+    private final long timeoutMs;
+
+    /** Upper bound on open streams per node. */
+    private final int maxSubscribers;
+
+    /** Client reconnect delay sent with the first message. */
+    private final long retryMs;
+
+    /** Metrics. */
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong slowConsumerDisconnects = new AtomicLong();
+    private final AtomicLong rejectedSubscriptions = new AtomicLong();
+
+    public LoanEventStreamServiceImpl(
+            UserRepository userRepository,
+            InvalidationBus invalidationBus,
+            @Value("${app.stream.buffer-size:64}") int bufferSize,
+            @Value("${app.stream.timeout-ms:1800000}") long timeoutMs,
+            @Value("${app.stream.max-subscribers:10000}") int maxSubscribers,
+            @Value("${app.stream.retry-ms:3000}") long retryMs,
+            @Value("${app.stream.sender-threads:16}") int senderThreads
+    ) {
+        this.userRepository = userRepository;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+        this.maxSubscribers = maxSubscribers;
+        this.retryMs = retryMs;
+
+        AtomicLong threadIds = new AtomicLong();
+        this.senders = Executors.newFixedThreadPool(senderThreads, r -> {
+            Thread t = new Thread(r, "loan-stream-sender-" + threadIds.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        invalidationBus.subscribe(this::onChange);
+    }
+
+    @Override
+    public SseEmitter subscribe(String username, boolean staff, boolean admin) {
+        if (subscribers.size() >= maxSubscribers) {
+            rejectedSubscriptions.incrementAndGet();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many open streams");
+        }
+
+        Long userId = staff ? null : userRepository.findByUsername(username)
+                .map(User::getId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unknown user"));
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, userId, staff, admin, new ArrayBlockingQueue<>(bufferSize));
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> close(subscriber));
+        emitter.onError(e -> close(subscriber));
+
+        subscribers.add(subscriber);
+        enqueue(subscriber, Message.event("ready", new LoanStreamEvent("ready", null, null)));
+        return emitter;
+    }
+
+    @Override
+    public StreamStats stats() {
+        return new StreamStats(subscribers.size(), delivered.get(),
+                slowConsumerDisconnects.get(), rejectedSubscriptions.get());
+    }
+
+    /** Keeps idle connections alive through proxies and detects dead clients. */
+    @Scheduled(fixedRateString = "${app.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber s : subscribers) enqueue(s, Message.HEARTBEAT);
+    }
+
+    /** Closes all streams on shutdown. */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(s -> s.emitter().complete());
+        senders.shutdown();
+    }
+
+    /** Translates bus events into client messages and routes them by role and ownership. */
+    private void onChange(ChangeEvent event) {
+        switch (event.kind()) {
+            case LOAN_CREATED, LOAN_UPDATED -> {
+                String type = (event.kind() == InvalidationBus.Kind.LOAN_CREATED) ? "loan-created" : "loan-status-changed";
+                Message message = Message.event(type, new LoanStreamEvent(type, event.id(), event.key()));
+                for (Subscriber s : subscribers) {
+                    if (s.staff() || (s.userId() != null && s.userId().equals(event.ownerId()))) enqueue(s, message);
+                }
+            }
+            case LOANS_CHANGED -> broadcast(Message.event("loans-changed", new LoanStreamEvent("loans-changed", null, null)));
+            case USER_CHANGED -> {
+                Message message = Message.event("metrics-changed", new LoanStreamEvent("metrics-changed", null, null));
+                for (Subscriber s : subscribers) {
+                    if (s.admin()) enqueue(s, message);
+                }
+            }
+            case FLUSH -> broadcast(Message.event("resync", new LoanStreamEvent("resync", null, null)));
+        }
+    }
+
+    /** Sends a message to every client. */
+    private void broadcast(Message message) {
+        for (Subscriber s : subscribers) enqueue(s, message);
+    }
+
+    /** Queues a message; disconnects the client if its queue is full. */
+    private void enqueue(Subscriber s, Message message) {
+        if (s.closed().get()) return;
+
+        if (!s.queue().offer(message)) {
+            slowConsumerDisconnects.incrementAndGet();
+            log.debug("Disconnecting slow SSE consumer after {} buffered messages", bufferSize);
+            close(s);
+            return;
+        }
+        scheduleDrain(s);
+    }
+
+    /** Starts a drain unless one is already running for this client. */
+    private void scheduleDrain(Subscriber s) {
+        if (s.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(s));
+        }
+    }
+
+    /** Writes queued messages in order; one drain per client at a time. */
+    private void drain(Subscriber s) {
+        try {
+            Message message;
+            while (!s.closed().get() && (message = s.queue().poll()) != null) {
+                s.emitter().send(message.toEvent(retryMs));
+                delivered.incrementAndGet();
+            }
+        } catch (IOException | IllegalStateException e) {
+            close(s);
+        } finally {
+            s.draining().set(false);
+            // A message may have arrived after the last poll but before the flag was cleared.
+            if (!s.closed().get() && !s.queue().isEmpty()) scheduleDrain(s);
+        }
+    }
+
+    /**
+     * Removes the client and completes its stream off the caller's thread, since completing
+     * may wait for a send that is blocked on a slow socket.
+     */
+    private void close(Subscriber s) {
+        if (!s.closed().compareAndSet(false, true)) return;
+
+        subscribers.remove(s);
+        s.queue().clear();
+        senders.execute(() -> s.emitter().complete());
+    }
+
+    /** One connected client. */
+    private record Subscriber(
+            SseEmitter emitter,
+            Long userId,
+            boolean staff,
+            boolean admin,
+            BlockingQueue<Message> queue,
+            AtomicBoolean draining,
+            AtomicBoolean closed
+    ) {
+        Subscriber(SseEmitter emitter, Long userId, boolean staff, boolean admin, BlockingQueue<Message> queue) {
+            this(emitter, userId, staff, admin, queue, new AtomicBoolean(), new AtomicBoolean());
+        }
+
+        /** Identity semantics so the set never merges two clients. */
+        @Override
+        public boolean equals(Object o) {
+            return this == o;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this);
+        }
+    }
+
+    /** Immutable queued message; SSE builders are single-use, so one is built per send. */
+    private record Message(String name, Object data) {
+
+        /** Comment-only keepalive. */
+        static final Message HEARTBEAT = new Message(null, null);
+
+        static Message event(String name, Object data) {
+            return new Message(name, data);
+        }
+
+        SseEmitter.SseEventBuilder toEvent(long retryMs) {
+            if (name == null) return SseEmitter.event().comment("heartbeat");
+
+            SseEmitter.SseEventBuilder builder = SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+            return "ready".equals(name) ? builder.reconnectTime(retryMs) : builder;
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package com.loanmanagementsystem.loanmanagementsystem.service.impl;
 
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplicationBase;
 import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
+import com.loanmanagementsystem.loanmanagementsystem.repository.CombinedLoanApplicationRepository;
 import com.loanmanagementsystem.loanmanagementsystem.repository.LoanRepository;
 import com.loanmanagementsystem.loanmanagementsystem.service.LoanQueryService;
 
@@ -17,18 +22,61 @@ public class LoanQueryServiceImpl implements LoanQueryService {
     /** Data access for loans. */
     private final LoanRepository loanRepository;
 
-    public LoanQueryServiceImpl(LoanRepository loanRepository) {
+    /** Data access for hot plus archived loans. */
+    private final CombinedLoanApplicationRepository combinedLoanRepository;
+
+    public LoanQueryServiceImpl(LoanRepository loanRepository, CombinedLoanApplicationRepository combinedLoanRepository) {
         this.loanRepository = loanRepository;
+        this.combinedLoanRepository = combinedLoanRepository;
     }
 
-    /** Returns a paged loan list with optional status filter. */
+    /**
+     * Returns a paged loan list (hot only unless includeArchived). Read on the primary: the list is
+     * cached under the loan version, which advances when the primary commits, so a lagging replica
+     * would let clients keep old rows under the new ETag. Unchanged polls are answered with 304
+     * before this runs, so the primary only serves polls that follow a change.
+     */
     @Override
-    public Page<LoanApplication> listLoans(int page, int size, String sortBy, String direction, LoanStatus status) {
+    @Transactional
+    public Page<? extends LoanApplicationBase> listLoans(
+            int page, int size, String sortBy, String direction, LoanStatus status, boolean includeArchived) {
         Sort sort = "desc".equalsIgnoreCase(direction)
                 ? Sort.by(sortBy).descending()
                 : Sort.by(sortBy).ascending();
 
         PageRequest pageable = PageRequest.of(page, size, sort);
+        if (includeArchived) {
+            return (status == null)
+                    ? combinedLoanRepository.findAll(pageable)
+                    : combinedLoanRepository.findByStatus(status, pageable);
+        }
         return (status == null) ? loanRepository.findAll(pageable) : loanRepository.findByStatus(status, pageable);
     }
+
+    /**
+     * One indexed range scan per page (per table when includeArchived); fetches one extra row to
+     * know whether more pages exist. Ids are unique across both tables, so the cursor works on either.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public OwnLoansPage listOwnLoans(String username, LoanStatus status, Long beforeId, int size, boolean includeArchived) {
+        long cursor = (beforeId == null) ? Long.MAX_VALUE : beforeId;
+        Limit limit = Limit.of(size + 1);
+
+        List<? extends LoanApplicationBase> rows;
+        if (includeArchived) {
+            rows = (status == null)
+                    ? combinedLoanRepository.findByUserUsernameAndIdLessThanOrderByIdDesc(username, cursor, limit)
+                    : combinedLoanRepository.findByUserUsernameAndStatusAndIdLessThanOrderByIdDesc(username, status, cursor, limit);
+        } else {
+            rows = (status == null)
+                    ? loanRepository.findByUserUsernameAndIdLessThanOrderByIdDesc(username, cursor, limit)
+                    : loanRepository.findByUserUsernameAndStatusAndIdLessThanOrderByIdDesc(username, status, cursor, limit);
+        }
+
+        if (rows.size() <= size) return new OwnLoansPage(rows, null);
+
+        List<? extends LoanApplicationBase> items = rows.subList(0, size);
+        return new OwnLoansPage(List.copyOf(items), items.get(size - 1).getId());
+    }
 }
@@ -1,15 +1,30 @@
 package com.loanmanagementsystem.loanmanagementsystem.service.impl;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import com.loanmanagementsystem.loanmanagementsystem.dto.LoanRequest;
+import com.loanmanagementsystem.loanmanagementsystem.entity.EmploymentType;
 import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplicationBase;
 import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
+import com.loanmanagementsystem.loanmanagementsystem.repository.ArchivedLoanApplicationRepository;
 import com.loanmanagementsystem.loanmanagementsystem.repository.LoanRepository;
+import com.loanmanagementsystem.loanmanagementsystem.repository.UserRepository;
 import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityService;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanAuditService;
 import com.loanmanagementsystem.loanmanagementsystem.service.LoanService;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanSubmissionJournal;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,23 +36,42 @@ public class LoanServiceImpl implements LoanService {
     /** Loan persistence access. */
     private final LoanRepository loanRepository;
 
-    /** Evaluates DTI, risk, decision, and interest rate. */
+    /** Archived loans, for submission lookups after archival. */
+    private final ArchivedLoanApplicationRepository archivedLoanRepository;
+
+    /** Resolves the authenticated applicant. */
+    private final UserRepository userRepository;
+
+    /** Evaluates DTI, risk, decision, and interest rate; shadow-scores challengers. */
     private final EligibilityService eligibilityService;
 
-    /** Creates and saves a new loan application. */
+    /** Announces every change so caches and versions on all nodes are invalidated. */
+    private final InvalidationBus invalidationBus;
+
+    /** Records who decided what. */
+    private final LoanAuditService loanAuditService;
+
+    /** Write-behind path for submissions when enabled. */
+    private final LoanSubmissionJournal submissionJournal;
+
+    /**
+     * Scores a new loan application with the active rule set and saves it, or in write-behind mode
+     * journals it and returns at once; the journal resolves the owner when the row is written.
+     */
     @Override
-    public LoanApplication applyLoan(LoanRequest req) {
-        var eval = eligibilityService.evaluate(req);
+    public LoanApplication applyLoan(LoanRequest req, String username) {
+        var eval = eligibilityService.decide(req);
 
         LoanApplication loan = new LoanApplication();
-        loan.setAmount(req.getAmount());
+        loan.setAmount(money(req.getAmount()));
         loan.setTenure(req.getTenure());
         loan.setFullName(req.getFullName());
-        loan.setMonthlyIncome(req.getMonthlyIncome());
-        loan.setMonthlyDebt(req.getMonthlyDebt());
+        loan.setMonthlyIncome(money(req.getMonthlyIncome()));
+        loan.setMonthlyDebt(money(req.getMonthlyDebt()));
         loan.setCreditScore(req.getCreditScore());
-        loan.setEmploymentType(req.getEmploymentType());
+        loan.setEmploymentType(EmploymentType.fromText(req.getEmploymentType()));
         loan.setPurpose(req.getPurpose());
+        loan.setSubmissionRef(UUID.randomUUID().toString());
 
         loan.setDti(eval.dti());
         loan.setRiskScore(eval.riskScore());
@@ -47,6 +81,97 @@ public class LoanServiceImpl implements LoanService {
         loan.setStatus(LoanStatus.SUBMITTED);
         loan.setCreatedAt(LocalDateTime.now());
 
-        return loanRepository.save(loan);
+        if (submissionJournal.isEnabled()) {
+            submissionJournal.append(loan, username);
+            return loan;
+        }
+
+        var owner = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Unknown user"));
+        loan.setUser(owner);
+
+        LoanApplication saved = loanRepository.save(loan);
+        invalidationBus.publish(ChangeEvent.loanCreated(saved.getId(), saved.getStatus().name(), owner.getId()));
+        return saved;
+    }
+
+    /**
+     * Checks the journal first, then the primary's hot table, then its archive: a submission
+     * leaves the pending set only after its row has committed, and archival inserts the archive
+     * copy in the statement that deletes the hot row, so this order never misses one in flight.
+     */
+    @Override
+    @Transactional
+    public Optional<LoanApplicationBase> findSubmission(String submissionRef, String username, boolean staff) {
+        Optional<String> pendingOwner = submissionJournal.pendingOwner(submissionRef);
+        if (pendingOwner.isPresent()) {
+            if (staff || pendingOwner.get().equals(username)) return Optional.empty();
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Submission not found");
+        }
+
+        Optional<? extends LoanApplicationBase> hot = staff
+                ? loanRepository.findBySubmissionRef(submissionRef)
+                : loanRepository.findBySubmissionRefAndUserUsername(submissionRef, username);
+        Optional<? extends LoanApplicationBase> loan = hot.isPresent() ? hot : (staff
+                ? archivedLoanRepository.findBySubmissionRef(submissionRef)
+                : archivedLoanRepository.findBySubmissionRefAndUserUsername(submissionRef, username));
+        return Optional.of(loan.orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Submission not found")));
+    }
+
+    /** Approves a submitted loan; read and write share one primary-bound transaction. */
+    @Override
+    @Transactional
+    public LoanApplication approveLoan(Long id, String actor) {
+        return updateStatus(id, LoanStatus.APPROVED, actor);
+    }
+
+    /** Rejects a submitted loan; read and write share one primary-bound transaction. */
+    @Override
+    @Transactional
+    public LoanApplication rejectLoan(Long id, String actor) {
+        return updateStatus(id, LoanStatus.REJECTED, actor);
+    }
+
+    /**
+     * Locks the loan row and applies the new status, so of two concurrent decisions the second
+     * waits and then sees the first. Refuses loans that are no longer SUBMITTED and loans another
+     * analyst holds in the work queue (409), and clears the claim on success.
+     */
+    private LoanApplication updateStatus(Long id, LoanStatus status, String actor) {
+        LoanApplication loan = loanRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Loan not found"));
+
+        if (loan.getStatus() != LoanStatus.SUBMITTED) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Loan has already been decided");
+        }
+
+        if (isClaimedByOtherAnalyst(loan, actor)) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "Loan is claimed by another analyst");
+        }
+
+        LoanStatus previous = loan.getStatus();
+        loan.setStatus(status);
+        loan.setClaimedBy(null);
+        loan.setClaimExpiresAt(null);
+        LoanApplication saved = loanRepository.save(loan);
+        Long ownerId = (loan.getUser() == null) ? null : loan.getUser().getId();
+        invalidationBus.publish(ChangeEvent.loanUpdated(saved.getId(), status.name(), ownerId));
+        loanAuditService.recordDecision(saved.getId(), previous, status, actor, null);
+        return saved;
+    }
+
+    /** Rounds money to the stored scale (cents). */
+    private static BigDecimal money(BigDecimal value) {
+        return (value == null) ? null : value.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /** True when a different analyst holds an unexpired work-queue claim (node prefetch claims do not count). */
+    private boolean isClaimedByOtherAnalyst(LoanApplication loan, String actor) {
+        String owner = loan.getClaimedBy();
+        return owner != null
+                && !owner.startsWith("node:")
+                && !owner.equals(actor)
+                && loan.getClaimExpiresAt() != null
+                && loan.getClaimExpiresAt().isAfter(LocalDateTime.now());
     }
 }
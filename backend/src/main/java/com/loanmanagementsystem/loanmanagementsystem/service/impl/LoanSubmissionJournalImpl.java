@@ -0,0 +1,494 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.CodedEnum;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanSubmissionJournal;
+import com.loanmanagementsystem.loanmanagementsystem.util.MappedJournal;
+import com.loanmanagementsystem.loanmanagementsystem.util.MappedJournal.Position;
+import com.loanmanagementsystem.loanmanagementsystem.util.MappedJournal.Record;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind loan submissions over a memory-mapped journal.
+ * Request threads encode the scored application, append it (forced to disk) and return. A single
+ * drainer thread reads the journal in order, inserts each batch with one JDBC batch in one
+ * transaction, and only then advances the journal checkpoint. A crash between commit and
+ * checkpoint replays the batch; ON CONFLICT (submission_ref) DO NOTHING turns the replay into a
+ * no-op, so each submission lands exactly once. The owner is resolved by username when the batch
+ * is inserted, so accepting a submission needs no database round trip.
+ * Records that can never be inserted (failed CRC, unreadable, or owner no longer exists) are
+ * copied to a dead-letter journal in the dead-letter sub-directory before the checkpoint passes
+ * them, logged, and counted; they are never dropped silently.
+ * A journal left on disk is drained at startup even when write-behind is switched off.
+ */
+@Slf4j
+@Service
+public class LoanSubmissionJournalImpl implements LoanSubmissionJournal {
+
+    /** Idempotent insert; rows whose ref exists (replays) are skipped. Owners are checked first. */
+    private static final String INSERT_SQL = """
+            insert into loan_application (
+                submission_ref, amount, interest_rate, tenure, status, created_at, full_name,
+                monthly_income, monthly_debt, credit_score, employment_type, purpose, dti,
+                risk_score, eligibility_decision, user_id)
+            select ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, u.id
+            from users u
+            where u.username = ?
+            on conflict (submission_ref) do nothing
+            """;
+
+    /** Which of a batch's owners exist. */
+    private static final String OWNERS_SQL = "select username from users where username = any (?)";
+
+    /** Sub-directory of the journal that keeps records which could not be inserted. */
+    private static final String DEAD_LETTER_DIR = "dead-letter";
+
+    /** Room in a dead-letter record for its header around the original record bytes. */
+    private static final int DEAD_LETTER_HEADROOM = 4096;
+
+    /** Version of the record encoding below. */
+    private static final byte FORMAT_VERSION = 1;
+
+    /** Longest retry backoff after a failed batch. */
+    private static final long MAX_RETRY_BACKOFF_MS = 1000;
+
+    /** Batch inserts. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** One transaction per batch. */
+    private final TransactionTemplate batchTx;
+
+    /** Announces drained loans to caches and streams on every node. */
+    private final InvalidationBus invalidationBus;
+
+    /** Whether new submissions are journaled. */
+    private final boolean enabled;
+
+    /** Most submissions inserted per batch. */
+    private final int batchSize;
+
+    /** Longest drainer sleep when the journal is empty (appends wake it earlier). */
+    private final long idleWaitNanos;
+
+    /** On-disk journal; null when write-behind is off and nothing was left to replay. */
+    private final MappedJournal journal;
+
+    /** Where the dead-letter journal lives. */
+    private final Path deadLetterDir;
+
+    /** Segment size of the dead-letter journal; fits any record of the main journal. */
+    private final int deadLetterSegmentBytes;
+
+    /** Records that could not be inserted; opened on first use, by the drainer thread only. */
+    private MappedJournal deadLetters;
+
+    /** Applicant by submissionRef for everything appended but not yet committed to the database. */
+    private final Map<String, String> pendingOwners = new ConcurrentHashMap<>();
+
+    /** Drainer thread; started once the application (and its schema) is ready. */
+    private volatile Thread drainer;
+
+    /** Cleared on shutdown. */
+    private volatile boolean running = true;
+
+    /** Metrics. */
+    private final AtomicLong appended = new AtomicLong();
+    private final AtomicLong persisted = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong deadLettered = new AtomicLong();
+
+    public LoanSubmissionJournalImpl(
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            InvalidationBus invalidationBus,
+            @Value("${app.write-behind.enabled:false}") boolean enabled,
+            @Value("${app.write-behind.journal-dir:./data/loan-journal}") String journalDir,
+            @Value("${app.write-behind.segment-bytes:67108864}") int segmentBytes,
+            @Value("${app.write-behind.batch-size:500}") int batchSize,
+            @Value("${app.write-behind.idle-wait-ms:50}") long idleWaitMs
+    ) throws IOException {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.batchTx = new TransactionTemplate(transactionManager);
+        this.invalidationBus = invalidationBus;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.idleWaitNanos = TimeUnit.MILLISECONDS.toNanos(idleWaitMs);
+
+        Path dir = Path.of(journalDir);
+        this.deadLetterDir = dir.resolve(DEAD_LETTER_DIR);
+        this.deadLetterSegmentBytes = segmentBytes + DEAD_LETTER_HEADROOM;
+        this.journal = (enabled || Files.isDirectory(dir)) ? new MappedJournal(dir, segmentBytes) : null;
+        if (journal != null) indexPending();
+    }
+
+    /** Starts draining, including whatever a previous run left in the journal. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (journal == null || drainer != null) return;
+        if (!pendingOwners.isEmpty()) log.info("Replaying {} journaled loan submissions", pendingOwners.size());
+
+        Thread thread = new Thread(this::drainLoop, "loan-journal-drainer");
+        thread.setDaemon(true);
+        drainer = thread;
+        thread.start();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void append(LoanApplication loan, String username) {
+        if (!enabled) throw new IllegalStateException("Write-behind is disabled");
+
+        byte[] payload = encode(loan, username);
+        pendingOwners.put(loan.getSubmissionRef(), username);
+        try {
+            journal.append(payload);
+        } catch (RuntimeException e) {
+            pendingOwners.remove(loan.getSubmissionRef());
+            log.error("Could not journal loan submission {}", loan.getSubmissionRef(), e);
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Submission could not be recorded");
+        }
+
+        appended.incrementAndGet();
+        Thread t = drainer;
+        if (t != null) LockSupport.unpark(t);
+    }
+
+    @Override
+    public Optional<String> pendingOwner(String submissionRef) {
+        return Optional.ofNullable(pendingOwners.get(submissionRef));
+    }
+
+    @Override
+    public JournalStats stats() {
+        return new JournalStats(
+                enabled,
+                pendingOwners.size(),
+                appended.get(),
+                persisted.get(),
+                skipped.get(),
+                failedBatches.get(),
+                deadLettered.get(),
+                (journal == null) ? 0 : journal.segmentCount()
+        );
+    }
+
+    /** Stops the drainer after one last pass; anything not yet inserted stays journaled for the next start. */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        Thread t = drainer;
+        if (t != null) {
+            LockSupport.unpark(t);
+            t.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        if (journal != null) journal.close();
+        if (deadLetters != null) deadLetters.close();
+    }
+
+    /** Drains in order; a failed batch is retried from the same position until it succeeds. */
+    private void drainLoop() {
+        Position position = journal.checkpointPosition();
+        long backoffMs = 0;
+
+        while (true) {
+            List<Record> records = journal.read(position, batchSize);
+            if (records.isEmpty()) {
+                if (!running) return;
+                LockSupport.parkNanos(this, idleWaitNanos);
+                continue;
+            }
+
+            Position next = records.get(records.size() - 1).next();
+            try {
+                List<Decoded> decoded = decodeAll(records);
+                List<Entry> entries = decoded.stream().map(Decoded::entry).filter(Objects::nonNull).toList();
+                Set<String> orphaned = persist(entries);
+                for (Decoded d : decoded) {
+                    if (d.entry() == null) {
+                        deadLetter(d.record(), d.problem());
+                    } else if (orphaned.contains(d.entry().submissionRef())) {
+                        deadLetter(d.record(), "owner " + d.entry().username() + " does not exist");
+                    }
+                }
+                entries.forEach(e -> pendingOwners.remove(e.submissionRef()));
+                journal.checkpoint(next);
+                position = next;
+                backoffMs = 0;
+            } catch (IOException | RuntimeException e) {
+                failedBatches.incrementAndGet();
+                if (!running) {
+                    log.warn("Journal drain stopped with {} submissions pending: {}", pendingOwners.size(), e.getMessage());
+                    return;
+                }
+                backoffMs = Math.min(Math.max(backoffMs * 2, 10), MAX_RETRY_BACKOFF_MS);
+                log.warn("Loan journal batch of {} failed, retrying in {} ms: {}", records.size(), backoffMs, e.getMessage());
+                LockSupport.parkNanos(this, TimeUnit.MILLISECONDS.toNanos(backoffMs));
+            }
+        }
+    }
+
+    /**
+     * Inserts one batch in one transaction and returns the submissionRefs whose owner does not
+     * exist; those are not inserted and must be dead-lettered by the caller.
+     */
+    private Set<String> persist(List<Entry> entries) {
+        if (entries.isEmpty()) return Set.of();
+
+        Set<String> orphaned = new HashSet<>();
+        int[] counts = batchTx.execute(s -> {
+            String[] usernames = entries.stream().map(Entry::username).distinct().toArray(String[]::new);
+            Set<String> owners = new HashSet<>(jdbcTemplate.queryForList(OWNERS_SQL, String.class, (Object) usernames));
+
+            List<Object[]> args = new ArrayList<>(entries.size());
+            for (Entry e : entries) {
+                if (!owners.contains(e.username())) {
+                    orphaned.add(e.submissionRef());
+                    continue;
+                }
+                args.add(new Object[] {
+                        e.submissionRef(), e.amount(), e.interestRate(), e.tenure(), e.status(), e.createdAt(),
+                        e.fullName(), e.monthlyIncome(), e.monthlyDebt(), e.creditScore(), e.employmentType(),
+                        e.purpose(), e.dti(), e.riskScore(), e.eligibilityDecision(), e.username()
+                });
+            }
+            if (args.isEmpty()) return new int[0];
+
+            int[] result = jdbcTemplate.batchUpdate(INSERT_SQL, args);
+            invalidationBus.publish(ChangeEvent.loansChanged());
+            return result;
+        });
+
+        long inserted = 0;
+        if (counts != null) {
+            for (int c : counts) if (c > 0) inserted += c;
+        }
+        persisted.addAndGet(inserted);
+        skipped.addAndGet(entries.size() - orphaned.size() - inserted);
+        return orphaned;
+    }
+
+    /**
+     * Durably copies a record that cannot be inserted to the dead-letter journal, with the reason and
+     * its original position, so it can be inspected and replayed by hand. Written before the
+     * checkpoint moves past the record; a crash in between may dead-letter it twice, never zero times.
+     */
+    private void deadLetter(Record record, String problem) throws IOException {
+        if (deadLetters == null) deadLetters = new MappedJournal(deadLetterDir, deadLetterSegmentBytes);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(record.payload().length + 128);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF((problem.length() > 1000) ? problem.substring(0, 1000) : problem);
+            out.writeLong(record.position().segment());
+            out.writeInt(record.position().offset());
+            out.writeInt(record.payload().length);
+            out.write(record.payload());
+        }
+        deadLetters.append(bytes.toByteArray());
+        deadLettered.incrementAndGet();
+        log.error("Loan journal record at {} moved to {}: {}", record.position(), deadLetterDir, problem);
+    }
+
+    /** Rebuilds the pending index from the unconsumed part of the journal. */
+    private void indexPending() {
+        Position position = journal.checkpointPosition();
+        List<Record> records;
+        while (!(records = journal.read(position, batchSize)).isEmpty()) {
+            for (Decoded d : decodeAll(records)) {
+                if (d.entry() != null) pendingOwners.put(d.entry().submissionRef(), d.entry().username());
+            }
+            position = records.get(records.size() - 1).next();
+        }
+    }
+
+    /** Decodes a batch; records that fail their CRC or cannot be read come back with a problem instead of an entry. */
+    private List<Decoded> decodeAll(List<Record> records) {
+        List<Decoded> decoded = new ArrayList<>(records.size());
+        for (Record r : records) {
+            if (!r.intact()) {
+                decoded.add(new Decoded(r, null, "checksum mismatch"));
+                continue;
+            }
+            try {
+                decoded.add(new Decoded(r, decode(r.payload()), null));
+            } catch (IOException | RuntimeException e) {
+                decoded.add(new Decoded(r, null, "unreadable: " + e.getMessage()));
+            }
+        }
+        return decoded;
+    }
+
+    /** Binary record layout, version 1; nullable fields carry a presence flag. */
+    private static byte[] encode(LoanApplication loan, String username) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeUTF(loan.getSubmissionRef());
+            out.writeUTF(username);
+            out.writeUTF(loan.getCreatedAt().toString());
+            writeDecimal(out, loan.getAmount());
+            writeDouble(out, loan.getInterestRate());
+            writeInt(out, loan.getTenure());
+            writeCode(out, loan.getStatus());
+            writeString(out, loan.getFullName());
+            writeDecimal(out, loan.getMonthlyIncome());
+            writeDecimal(out, loan.getMonthlyDebt());
+            writeInt(out, loan.getCreditScore());
+            writeCode(out, loan.getEmploymentType());
+            writeString(out, loan.getPurpose());
+            writeDouble(out, loan.getDti());
+            writeInt(out, loan.getRiskScore());
+            writeCode(out, loan.getEligibilityDecision());
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not encode loan submission", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /** Reads a record written by {@link #encode}. */
+    private static Entry decode(byte[] payload) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+            byte version = in.readByte();
+            if (version != FORMAT_VERSION) throw new IOException("Unknown record version " + version);
+
+            return new Entry(
+                    in.readUTF(),
+                    in.readUTF(),
+                    LocalDateTime.parse(in.readUTF()),
+                    readDecimal(in),
+                    readDouble(in),
+                    readInt(in),
+                    readCode(in),
+                    readString(in),
+                    readDecimal(in),
+                    readDecimal(in),
+                    readInt(in),
+                    readCode(in),
+                    readString(in),
+                    readDouble(in),
+                    readInt(in),
+                    readCode(in)
+            );
+        }
+    }
+
+    /** Nullable string: presence flag, then modified UTF-8. */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeUTF(value);
+    }
+
+    /** Reads a value written by writeString. */
+    private static String readString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /** Nullable decimal as its plain string, so scale is preserved exactly. */
+    private static void writeDecimal(DataOutputStream out, BigDecimal value) throws IOException {
+        writeString(out, (value == null) ? null : value.toPlainString());
+    }
+
+    /** Reads a value written by writeDecimal. */
+    private static BigDecimal readDecimal(DataInputStream in) throws IOException {
+        String value = readString(in);
+        return (value == null) ? null : new BigDecimal(value);
+    }
+
+    /** Nullable int: presence flag, then the value. */
+    private static void writeInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeInt(value);
+    }
+
+    /** Reads a value written by writeInt. */
+    private static Integer readInt(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readInt() : null;
+    }
+
+    /** Nullable double: presence flag, then the value. */
+    private static void writeDouble(DataOutputStream out, Double value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeDouble(value);
+    }
+
+    /** Reads a value written by writeDouble. */
+    private static Double readDouble(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readDouble() : null;
+    }
+
+    /** Enums are journaled by their stored code, matching the smallint columns. */
+    private static void writeCode(DataOutputStream out, CodedEnum value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) out.writeShort(value.code());
+    }
+
+    /** Reads a code written by writeCode. */
+    private static Short readCode(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readShort() : null;
+    }
+
+    /** A journal record with its decoded entry, or the reason it could not be decoded. */
+    private record Decoded(Record record, Entry entry, String problem) {}
+
+    /** Decoded submission, in insert column terms. */
+    private record Entry(
+            String submissionRef,
+            String username,
+            LocalDateTime createdAt,
+            BigDecimal amount,
+            Double interestRate,
+            Integer tenure,
+            Short status,
+            String fullName,
+            BigDecimal monthlyIncome,
+            BigDecimal monthlyDebt,
+            Integer creditScore,
+            Short employmentType,
+            String purpose,
+            Double dti,
+            Integer riskScore,
+            Short eligibilityDecision
+    ) {}
+}
@@ -0,0 +1,160 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanApplication;
+import com.loanmanagementsystem.loanmanagementsystem.entity.LoanStatus;
+import com.loanmanagementsystem.loanmanagementsystem.repository.LoanRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.LoanWorkQueueService;
+
+/**
+ * Work queue backed by claim columns on the loan table.
+ * Each node claims batches with SELECT ... FOR UPDATE SKIP LOCKED under a short node lease and keeps
+ * them in a local prefetch buffer; analyst claims are served from the buffer by transferring the
+ * lease to the analyst. Unused prefetched loans fall back to the queue when the node lease lapses.
+ */
+@Service
+public class LoanWorkQueueServiceImpl implements LoanWorkQueueService {
+
+    /** Loan persistence access. */
+    private final LoanRepository loanRepository;
+
+    /** Short read-write transactions for claim operations. */
+    private final TransactionTemplate tx;
+
+    /** Claim owner used for loans sitting in this node's prefetch buffer. */
+    private final String nodeOwner = "node:" + UUID.randomUUID();
+
+    /** Extra loans fetched per refill beyond the current request. */
+    private final int prefetchSize;
+
+    /** How long a node may hold prefetched loans before they return to the queue. */
+    private final long nodeLeaseSeconds;
+
+    /** How long an analyst holds a claimed loan. */
+    private final long analystLeaseMinutes;
+
+    /** Prefetched loan ids per ordering. */
+    private final Map<Order, ConcurrentLinkedQueue<Prefetched>> buffers = new EnumMap<>(Order.class);
+
+    /** One refill per ordering at a time; other callers reuse its result. */
+    private final Map<Order, ReentrantLock> refillLocks = new EnumMap<>(Order.class);
+
+    public LoanWorkQueueServiceImpl(
+            LoanRepository loanRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.work-queue.prefetch-size:20}") int prefetchSize,
+            @Value("${app.work-queue.node-lease-seconds:30}") long nodeLeaseSeconds,
+            @Value("${app.work-queue.analyst-lease-minutes:15}") long analystLeaseMinutes
+    ) {
+        this.loanRepository = loanRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.prefetchSize = prefetchSize;
+        this.nodeLeaseSeconds = nodeLeaseSeconds;
+        this.analystLeaseMinutes = analystLeaseMinutes;
+
+        for (Order order : Order.values()) {
+            buffers.put(order, new ConcurrentLinkedQueue<>());
+            refillLocks.put(order, new ReentrantLock());
+        }
+    }
+
+    @Override
+    public List<LoanApplication> claim(String analyst, int count, Order order) {
+        ConcurrentLinkedQueue<Prefetched> buffer = buffers.get(order);
+        List<LoanApplication> claimed = new ArrayList<>();
+
+        while (claimed.size() < count) {
+            List<Long> candidates = drain(buffer, count - claimed.size());
+            if (candidates.isEmpty()) {
+                if (!refill(order, count - claimed.size())) break;
+                continue;
+            }
+            claimed.addAll(transfer(candidates, analyst));
+        }
+
+        Comparator<LoanApplication> sort = (order == Order.RISK)
+                ? Comparator.comparing(LoanApplication::getRiskScore, Comparator.nullsLast(Comparator.reverseOrder()))
+                : Comparator.comparing(LoanApplication::getCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()));
+        claimed.sort(sort.thenComparing(LoanApplication::getId));
+        return claimed;
+    }
+
+    @Override
+    public boolean release(Long loanId, String analyst) {
+        Integer updated = tx.execute(s -> loanRepository.releaseClaim(loanId, analyst));
+        return updated != null && updated == 1;
+    }
+
+    /** Takes up to max unexpired ids from the buffer. */
+    private List<Long> drain(ConcurrentLinkedQueue<Prefetched> buffer, int max) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = new ArrayList<>(max);
+
+        Prefetched next;
+        while (ids.size() < max && (next = buffer.poll()) != null) {
+            if (next.leaseExpiresAt().isAfter(now)) ids.add(next.id());
+        }
+        return ids;
+    }
+
+    /** Moves node-held claims to the analyst in one update and returns the loans actually obtained. */
+    private List<LoanApplication> transfer(List<Long> ids, String analyst) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plusMinutes(analystLeaseMinutes);
+
+        return tx.execute(s -> {
+            loanRepository.transferClaims(ids, LoanStatus.SUBMITTED, nodeOwner, analyst, expiresAt, now);
+            return loanRepository.findByIdInAndClaimedBy(ids, analyst);
+        });
+    }
+
+    /**
+     * Claims a fresh batch for this node with SKIP LOCKED so concurrent nodes never block each other.
+     * Returns false when the queue has nothing left to hand out.
+     */
+    private boolean refill(Order order, int needed) {
+        ReentrantLock lock = refillLocks.get(order);
+        ConcurrentLinkedQueue<Prefetched> buffer = buffers.get(order);
+
+        lock.lock();
+        try {
+            // Another caller may have refilled while we waited for the lock.
+            if (!buffer.isEmpty()) return true;
+
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime leaseExpiresAt = now.plusSeconds(nodeLeaseSeconds);
+            int limit = needed + prefetchSize;
+
+            List<Long> ids = tx.execute(s -> {
+                List<Long> locked = (order == Order.RISK)
+                        ? loanRepository.lockClaimableByRisk(LoanStatus.SUBMITTED.code(), now, limit)
+                        : loanRepository.lockClaimableByAge(LoanStatus.SUBMITTED.code(), now, limit);
+                if (!locked.isEmpty()) loanRepository.claim(locked, nodeOwner, leaseExpiresAt);
+                return locked;
+            });
+
+            if (ids == null || ids.isEmpty()) return false;
+            ids.forEach(id -> buffer.add(new Prefetched(id, leaseExpiresAt)));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Loan held in the local buffer under this node's lease. */
+    private record Prefetched(Long id, LocalDateTime leaseExpiresAt) {}
+}
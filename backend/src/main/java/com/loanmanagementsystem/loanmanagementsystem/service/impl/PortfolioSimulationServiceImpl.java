@@ -0,0 +1,229 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.loanmanagementsystem.loanmanagementsystem.dto.LoanRequest;
+import com.loanmanagementsystem.loanmanagementsystem.dto.LoanScoringInput;
+import com.loanmanagementsystem.loanmanagementsystem.repository.CombinedLoanApplicationRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityRules;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityService;
+import com.loanmanagementsystem.loanmanagementsystem.service.EligibilityService.EligibilityResult;
+import com.loanmanagementsystem.loanmanagementsystem.service.PortfolioSimulationService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams scoring inputs in keyset-paged chunks and scores each chunk in parallel on all cores.
+ * While one chunk is being scored the next is fetched, so at most two chunks are held in memory.
+ */
+@Slf4j
+@Service
+public class PortfolioSimulationServiceImpl implements PortfolioSimulationService {
+
+    /** Number of finished jobs kept for lookup. */
+    private static final int RETAINED_JOBS = 20;
+
+    /** Source of scoring inputs (hot and archived loans). */
+    private final CombinedLoanApplicationRepository combinedLoanRepository;
+
+    /** Scoring logic shared with live applications. */
+    private final EligibilityService eligibilityService;
+
+    /** Read-only transactions so chunk reads can be served by a replica. */
+    private final TransactionTemplate readOnlyTx;
+
+    /** Rows fetched per round trip. */
+    private final int chunkSize;
+
+    /** Runs one simulation at a time. */
+    private final ExecutorService jobRunner = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "portfolio-simulation");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Parallel scoring pool sized to the machine. */
+    private final ForkJoinPool scoringPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+    /** Recent jobs, oldest evicted first. */
+    private final Map<String, Job> jobs = Collections.synchronizedMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Job> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    });
+
+    public PortfolioSimulationServiceImpl(
+            CombinedLoanApplicationRepository combinedLoanRepository,
+            EligibilityService eligibilityService,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.simulation.chunk-size:5000}") int chunkSize
+    ) {
+        this.combinedLoanRepository = combinedLoanRepository;
+        this.eligibilityService = eligibilityService;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.chunkSize = chunkSize;
+    }
+
+    /** Queues the run and returns its initial snapshot. */
+    @Override
+    public SimulationJob start(EligibilityRules candidate) {
+        Job job = new Job(UUID.randomUUID().toString());
+        jobs.put(job.id, job);
+        jobRunner.submit(() -> run(job, candidate));
+        return job.snapshot();
+    }
+
+    @Override
+    public Optional<SimulationJob> find(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(Job::snapshot);
+    }
+
+    /** Fetch-next / score-current pipeline over the whole table. */
+    private void run(Job job, EligibilityRules candidate) {
+        job.status = "RUNNING";
+        long started = System.currentTimeMillis();
+        EligibilityRules current = eligibilityService.currentRules();
+
+        try {
+            Tally total = new Tally();
+            CompletableFuture<Tally> inFlight = null;
+            long afterId = 0;
+
+            while (true) {
+                long cursor = afterId;
+                List<LoanScoringInput> chunk = readOnlyTx.execute(
+                        s -> combinedLoanRepository.findScoringInputsAfter(cursor, PageRequest.of(0, chunkSize)));
+                if (chunk == null || chunk.isEmpty()) break;
+                afterId = chunk.get(chunk.size() - 1).id();
+
+                if (inFlight != null) total.merge(inFlight.join());
+                inFlight = CompletableFuture.supplyAsync(() -> score(job, chunk, current, candidate), scoringPool);
+            }
+            if (inFlight != null) total.merge(inFlight.join());
+
+            job.report = total.toReport(System.currentTimeMillis() - started);
+            job.status = "COMPLETED";
+        } catch (RuntimeException e) {
+            log.warn("Portfolio simulation {} failed", job.id, e);
+            job.error = e.getMessage();
+            job.status = "FAILED";
+        } finally {
+            job.finishedAt = LocalDateTime.now();
+        }
+    }
+
+    /** Scores one chunk in parallel; each worker fills its own tally and tallies are merged. */
+    private Tally score(Job job, List<LoanScoringInput> chunk, EligibilityRules current, EligibilityRules candidate) {
+        Tally tally = chunk.parallelStream().collect(Tally::new, (t, input) -> {
+            LoanRequest req = input.toRequest();
+            t.add(eligibilityService.evaluate(req, current), eligibilityService.evaluate(req, candidate));
+        }, Tally::merge);
+        job.processed.addAndGet(chunk.size());
+        return tally;
+    }
+
+    /** Stops background work on shutdown. */
+    @PreDestroy
+    public void shutdown() {
+        jobRunner.shutdownNow();
+        scoringPool.shutdownNow();
+    }
+
+    /** Mutable job state behind the immutable snapshot. */
+    private static final class Job {
+        final String id;
+        final LocalDateTime startedAt = LocalDateTime.now();
+        final AtomicLong processed = new AtomicLong();
+        volatile String status = "QUEUED";
+        volatile LocalDateTime finishedAt;
+        volatile SimulationReport report;
+        volatile String error;
+
+        Job(String id) {
+            this.id = id;
+        }
+
+        SimulationJob snapshot() {
+            return new SimulationJob(id, status, startedAt, finishedAt, processed.get(), report, error);
+        }
+    }
+
+    /** Per-thread accumulator; not thread-safe, combined with merge. */
+    private static final class Tally {
+        long total;
+        long changed;
+        double riskDelta;
+        double rateDelta;
+        double maxRateIncrease;
+        double maxRateDecrease;
+        final Map<String, Long> before = new HashMap<>();
+        final Map<String, Long> after = new HashMap<>();
+        final Map<String, Long> transitions = new HashMap<>();
+
+        void add(EligibilityResult current, EligibilityResult candidate) {
+            total++;
+            before.merge(current.decision().name(), 1L, Long::sum);
+            after.merge(candidate.decision().name(), 1L, Long::sum);
+            if (current.decision() != candidate.decision()) {
+                changed++;
+                transitions.merge(current.decision() + "->" + candidate.decision(), 1L, Long::sum);
+            }
+
+            riskDelta += candidate.riskScore() - current.riskScore();
+            double rate = candidate.recommendedRate() - current.recommendedRate();
+            rateDelta += rate;
+            maxRateIncrease = Math.max(maxRateIncrease, rate);
+            maxRateDecrease = Math.min(maxRateDecrease, rate);
+        }
+
+        Tally merge(Tally other) {
+            total += other.total;
+            changed += other.changed;
+            riskDelta += other.riskDelta;
+            rateDelta += other.rateDelta;
+            maxRateIncrease = Math.max(maxRateIncrease, other.maxRateIncrease);
+            maxRateDecrease = Math.min(maxRateDecrease, other.maxRateDecrease);
+            other.before.forEach((k, v) -> before.merge(k, v, Long::sum));
+            other.after.forEach((k, v) -> after.merge(k, v, Long::sum));
+            other.transitions.forEach((k, v) -> transitions.merge(k, v, Long::sum));
+            return this;
+        }
+
+        SimulationReport toReport(long durationMs) {
+            return new SimulationReport(
+                    total,
+                    changed,
+                    new TreeMap<>(before),
+                    new TreeMap<>(after),
+                    new TreeMap<>(transitions),
+                    total == 0 ? 0 : riskDelta / total,
+                    total == 0 ? 0 : rateDelta / total,
+                    maxRateIncrease,
+                    maxRateDecrease,
+                    durationMs
+            );
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Invalidation bus on Postgres LISTEN/NOTIFY.
+ * Inside a transaction, pg_notify is issued on the publishing transaction's own connection just
+ * before it commits, so Postgres sends the event exactly when (and only if) the change commits;
+ * local subscribers run after the commit. A daemon thread holds one dedicated connection
+ * (outside the pool) that LISTENs for events from other nodes.
+ * After the listener loses its connection it reconnects with backoff and tells local subscribers
+ * to FLUSH, because anything published while it was away has been lost.
+ * With app.invalidation.postgres.enabled=false (e.g. on H2) only local delivery happens.
+ */
+@Slf4j
+@Service
+public class PostgresInvalidationBus implements InvalidationBus {
+
+    /** Notification channel shared by all nodes. */
+    static final String CHANNEL = "lms_invalidation";
+
+    /** Separator in the notification payload; the key is last so it may contain it. */
+    private static final String SEPARATOR = "|";
+
+    /** Identifies this node's own notifications so they are not delivered twice. */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /** Local subscribers. */
+    private final List<Consumer<ChangeEvent>> subscribers = new CopyOnWriteArrayList<>();
+
+    /** Sends pg_notify on the current transaction's connection, or a pooled one outside transactions. */
+    private final JdbcTemplate jdbcTemplate;
+
+    /** Whether cross-node delivery is active. */
+    private final boolean postgresEnabled;
+
+    /** Connection settings for the dedicated listener connection. */
+    private final String url;
+    private final String username;
+    private final String password;
+
+    /** How long one poll for notifications blocks. */
+    private final int pollTimeoutMs;
+
+    /** Idle time after which the listener pings the server to detect dead connections. */
+    private final long keepaliveMs;
+
+    /** Upper bound of the reconnect backoff. */
+    private final long maxBackoffMs;
+
+    /** Listener thread; null when cross-node delivery is disabled. */
+    private volatile Thread listener;
+
+    /** Cleared on shutdown. */
+    private volatile boolean running;
+
+    public PostgresInvalidationBus(
+            DataSource dataSource,
+            @Value("${app.invalidation.postgres.enabled:true}") boolean postgresEnabled,
+            @Value("${spring.datasource.url}") String url,
+            @Value("${spring.datasource.username:}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${app.invalidation.poll-timeout-ms:500}") int pollTimeoutMs,
+            @Value("${app.invalidation.keepalive-ms:10000}") long keepaliveMs,
+            @Value("${app.invalidation.max-backoff-ms:5000}") long maxBackoffMs
+    ) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.postgresEnabled = postgresEnabled;
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.keepaliveMs = keepaliveMs;
+        this.maxBackoffMs = maxBackoffMs;
+    }
+
+    @Override
+    public void subscribe(Consumer<ChangeEvent> subscriber) {
+        subscribers.add(subscriber);
+    }
+
+    /**
+     * Delivering before commit would let other nodes re-read and cache the old rows, so inside a
+     * transaction the NOTIFY joins it in beforeCommit (Postgres holds it until the commit) and
+     * local subscribers run in afterCommit. A failing pg_notify fails the commit, since the
+     * Postgres transaction is aborted; nothing is then changed and nothing needs invalidating.
+     */
+    @Override
+    public void publish(ChangeEvent event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifyOthers(event);
+            dispatch(event);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                if (postgresEnabled) sendNotify(event);
+            }
+
+            @Override
+            public void afterCommit() {
+                dispatch(event);
+            }
+        });
+    }
+
+    /** Starts listening once the application is fully up. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!postgresEnabled || listener != null) return;
+
+        running = true;
+        Thread thread = new Thread(this::listenLoop, "invalidation-listener");
+        thread.setDaemon(true);
+        listener = thread;
+        thread.start();
+    }
+
+    /** Stops the listener thread. */
+    @PreDestroy
+    public void stop() {
+        running = false;
+        Thread thread = listener;
+        if (thread != null) thread.interrupt();
+    }
+
+    /** Notifies other nodes outside a transaction; the statement commits on its own. */
+    private void notifyOthers(ChangeEvent event) {
+        if (!postgresEnabled) return;
+
+        try {
+            sendNotify(event);
+        } catch (RuntimeException e) {
+            // Other nodes fall back to their cache TTLs for this change.
+            log.warn("Could not publish {} invalidation: {}", event.kind(), e.getMessage());
+        }
+    }
+
+    /** Issues pg_notify on the connection bound to the current transaction, if any. */
+    private void sendNotify(ChangeEvent event) {
+        jdbcTemplate.queryForObject("SELECT pg_notify(?, ?)", Object.class, CHANNEL, encode(event));
+    }
+
+    /** Calls every subscriber; one failing subscriber does not stop the others. */
+    private void dispatch(ChangeEvent event) {
+        for (Consumer<ChangeEvent> subscriber : subscribers) {
+            try {
+                subscriber.accept(event);
+            } catch (RuntimeException e) {
+                log.warn("Invalidation subscriber failed for {}: {}", event.kind(), e.getMessage());
+            }
+        }
+    }
+
+    /** Connect, LISTEN, poll until the connection breaks, back off, repeat. */
+    private void listenLoop() {
+        long backoffMs = 100;
+        boolean connectedBefore = false;
+
+        while (running) {
+            try (Connection con = DriverManager.getConnection(url, username, password)) {
+                try (Statement st = con.createStatement()) {
+                    st.execute("LISTEN " + CHANNEL);
+                }
+
+                if (connectedBefore) {
+                    log.info("Invalidation listener reconnected; flushing local caches");
+                    dispatch(ChangeEvent.flush());
+                }
+                connectedBefore = true;
+                backoffMs = 100;
+
+                poll(con);
+            } catch (SQLException e) {
+                if (!running) break;
+                log.warn("Invalidation listener connection lost, retrying in {} ms: {}", backoffMs, e.getMessage());
+            }
+
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            backoffMs = Math.min(backoffMs * 2, maxBackoffMs);
+        }
+    }
+
+    /** Delivers notifications from other nodes; pings when idle so a dead socket is noticed. */
+    private void poll(Connection con) throws SQLException {
+        PGConnection pg = con.unwrap(PGConnection.class);
+        long lastActivity = System.currentTimeMillis();
+
+        while (running && !Thread.currentThread().isInterrupted()) {
+            PGNotification[] notifications = pg.getNotifications(pollTimeoutMs);
+
+            if (notifications != null && notifications.length > 0) {
+                for (PGNotification n : notifications) {
+                    ChangeEvent event = decode(n.getParameter());
+                    if (event != null) dispatch(event);
+                }
+                lastActivity = System.currentTimeMillis();
+            } else if (System.currentTimeMillis() - lastActivity >= keepaliveMs) {
+                try (Statement st = con.createStatement()) {
+                    st.execute("SELECT 1");
+                }
+                lastActivity = System.currentTimeMillis();
+            }
+        }
+    }
+
+    /** origin|kind|id|ownerId|key, with empty fields for nulls. */
+    private String encode(ChangeEvent event) {
+        return String.join(SEPARATOR,
+                nodeId,
+                event.kind().name(),
+                (event.id() == null) ? "" : event.id().toString(),
+                (event.ownerId() == null) ? "" : event.ownerId().toString(),
+                (event.key() == null) ? "" : event.key());
+    }
+
+    /** Parses a payload; returns null for this node's own events and for malformed payloads. */
+    private ChangeEvent decode(String payload) {
+        String[] parts = payload.split("\\" + SEPARATOR, 5);
+        if (parts.length != 5 || parts[0].equals(nodeId)) return null;
+
+        try {
+            return new ChangeEvent(
+                    Kind.valueOf(parts[1]),
+                    parts[2].isEmpty() ? null : Long.valueOf(parts[2]),
+                    parts[4].isEmpty() ? null : parts[4],
+                    parts[3].isEmpty() ? null : Long.valueOf(parts[3])
+            );
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed invalidation payload: {}", payload);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.loanmanagementsystem.loanmanagementsystem.entity.RefreshToken;
+import com.loanmanagementsystem.loanmanagementsystem.entity.User;
+import com.loanmanagementsystem.loanmanagementsystem.repository.RefreshTokenRepository;
+import com.loanmanagementsystem.loanmanagementsystem.repository.UserRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.RefreshTokenService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Database-backed refresh tokens with rotation and reuse detection.
+ * Work runs in TransactionTemplate blocks rather than @Transactional so that a family revoked
+ * on reuse stays revoked even though the caller then gets a 401.
+ */
+@Slf4j
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    /** Source of token bytes. */
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    /** Random bytes per token (256 bits). */
+    private static final int TOKEN_BYTES = 32;
+
+    /** Token persistence access. */
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    /** Re-reads the user by id on refresh to pick up role and active-flag changes. */
+    private final UserRepository userRepository;
+
+    /** Short read-write transactions for token operations. */
+    private final TransactionTemplate tx;
+
+    /** Lifetime of each issued token; rotation slides it forward. */
+    private final long ttlDays;
+
+    /**
+     * How long a just-rotated token may be presented again without counting as reuse.
+     * Covers tabs or retries that refresh with the same token at the same moment.
+     */
+    private final long reuseGraceSeconds;
+
+    public RefreshTokenServiceImpl(
+            RefreshTokenRepository refreshTokenRepository,
+            UserRepository userRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.refresh-token.ttl-days:14}") long ttlDays,
+            @Value("${app.refresh-token.reuse-grace-seconds:10}") long reuseGraceSeconds
+    ) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.ttlDays = ttlDays;
+        this.reuseGraceSeconds = reuseGraceSeconds;
+    }
+
+    @Override
+    public String issue(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        return tx.execute(s -> create(user.getId(), UUID.randomUUID().toString(), now));
+    }
+
+    @Override
+    public Rotation rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) throw invalid();
+
+        String hash = hash(rawToken);
+        LocalDateTime now = LocalDateTime.now();
+
+        Rotation rotation = tx.execute(s -> {
+            RefreshToken current = refreshTokenRepository.findByTokenHash(hash).orElse(null);
+            if (current == null || current.getRevokedAt() != null || !current.getExpiresAt().isAfter(now)) {
+                return null;
+            }
+
+            if (current.getUsedAt() != null && current.getUsedAt().isBefore(now.minusSeconds(reuseGraceSeconds))) {
+                // A rotated token came back: either the client or an attacker holds a stolen copy.
+                int revoked = refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+                log.warn("Refresh token reuse for user {}; revoked {} tokens of family {}",
+                        current.getUserId(), revoked, current.getFamilyId());
+                return null;
+            }
+
+            User user = userRepository.findById(current.getUserId()).filter(User::isActive).orElse(null);
+            if (user == null) {
+                refreshTokenRepository.revokeFamily(current.getFamilyId(), now);
+                return null;
+            }
+
+            if (current.getUsedAt() == null) current.setUsedAt(now);
+            return new Rotation(user, create(user.getId(), current.getFamilyId(), now));
+        });
+
+        if (rotation == null) throw invalid();
+        return rotation;
+    }
+
+    @Override
+    public void revoke(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) return;
+
+        String hash = hash(rawToken);
+        LocalDateTime now = LocalDateTime.now();
+        tx.executeWithoutResult(s -> refreshTokenRepository.findByTokenHash(hash)
+                .ifPresent(t -> refreshTokenRepository.revokeFamily(t.getFamilyId(), now)));
+    }
+
+    @Override
+    public int revokeAll(Long userId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer revoked = tx.execute(s -> refreshTokenRepository.revokeByUserId(userId, now));
+        return revoked == null ? 0 : revoked;
+    }
+
+    /** Deletes expired tokens; rotation leaves one used row per refresh behind until then. */
+    @Scheduled(fixedDelayString = "${app.refresh-token.purge-interval-ms:3600000}",
+               initialDelayString = "${app.refresh-token.purge-initial-delay-ms:300000}")
+    public void purgeExpired() {
+        Integer deleted = tx.execute(s -> refreshTokenRepository.deleteExpiredBefore(LocalDateTime.now()));
+        if (deleted != null && deleted > 0) log.info("Purged {} expired refresh tokens", deleted);
+    }
+
+    /** Stores a new token of the family and returns its raw value; runs inside a transaction. */
+    private String create(Long userId, String familyId, LocalDateTime now) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken token = new RefreshToken();
+        token.setTokenHash(hash(raw));
+        token.setUserId(userId);
+        token.setFamilyId(familyId);
+        token.setCreatedAt(now);
+        token.setExpiresAt(now.plusDays(ttlDays));
+        refreshTokenRepository.save(token);
+        return raw;
+    }
+
+    /** Hex SHA-256; tokens are high-entropy random values, so a fast unsalted hash is sufficient. */
+    private static String hash(String raw) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(raw.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /** Uniform rejection so callers cannot tell why a token was refused. */
+    private static ResponseStatusException invalid() {
+        return new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Invalid or expired refresh token");
+    }
+}
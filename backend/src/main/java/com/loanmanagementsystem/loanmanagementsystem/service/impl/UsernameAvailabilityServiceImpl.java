@@ -0,0 +1,135 @@
+package com.loanmanagementsystem.loanmanagementsystem.service.impl;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.loanmanagementsystem.loanmanagementsystem.repository.UserRepository;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.ChangeEvent;
+import com.loanmanagementsystem.loanmanagementsystem.service.InvalidationBus.Kind;
+import com.loanmanagementsystem.loanmanagementsystem.service.UsernameAvailabilityService;
+import com.loanmanagementsystem.loanmanagementsystem.util.BloomFilter;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bloom-filter backed availability checks.
+ * Definite misses are answered from memory; possible hits fall through to the database.
+ * Usernames registered on any node arrive through the invalidation bus.
+ */
+@Slf4j
+@Service
+public class UsernameAvailabilityServiceImpl implements UsernameAvailabilityService {
+
+    /** Authoritative username lookups for possible positives. */
+    private final UserRepository userRepository;
+
+    /**
+     * Read-write transaction for the rebuild scan, so it reads the primary: a replica could miss
+     * names registered during its lag, and they would drop out of the filter until the next rebuild.
+     */
+    private final TransactionTemplate primaryTx;
+
+    /** Expected number of usernames used to size the filter. */
+    private final long expectedUsers;
+
+    /** Target false-positive rate of the filter. */
+    private final double falsePositiveRate;
+
+    /** Current filter; null until the startup rebuild has finished. */
+    private volatile BloomFilter filter;
+
+    /** Filter being rebuilt; receives concurrent inserts so none are lost during the scan. */
+    private volatile BloomFilter building;
+
+    /**
+     * Runs rebuilds requested by a FLUSH, so the full username scan never blocks the
+     * invalidation listener thread that delivers events for every other cache.
+     */
+    private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "username-filter-rebuild");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /** Set while a rebuild is queued; further flushes until it starts are covered by it. */
+    private final AtomicBoolean rebuildQueued = new AtomicBoolean();
+
+    public UsernameAvailabilityServiceImpl(
+            UserRepository userRepository,
+            InvalidationBus invalidationBus,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.username-filter.expected-users:100000}") long expectedUsers,
+            @Value("${app.username-filter.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.userRepository = userRepository;
+        this.primaryTx = new TransactionTemplate(transactionManager);
+        this.expectedUsers = expectedUsers;
+        this.falsePositiveRate = falsePositiveRate;
+        invalidationBus.subscribe(this::onChange);
+    }
+
+    /** Builds the filter from the users table once startup (including seeding) is complete. */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        BloomFilter fresh = new BloomFilter(expectedUsers, falsePositiveRate);
+        building = fresh;
+        try {
+            primaryTx.executeWithoutResult(s -> userRepository.findAllUsernames().forEach(fresh::put));
+            filter = fresh;
+        } finally {
+            building = null;
+        }
+    }
+
+    /** Adds new usernames; rebuilds after a flush because registrations may have been missed. */
+    private void onChange(ChangeEvent event) {
+        if (event.kind() == Kind.USER_CHANGED && event.key() != null) {
+            recordUsername(event.key());
+        } else if (event.kind() == Kind.FLUSH && rebuildQueued.compareAndSet(false, true)) {
+            rebuilder.execute(() -> {
+                rebuildQueued.set(false);
+                try {
+                    rebuild();
+                } catch (RuntimeException e) {
+                    // The previous filter stays in use; possible hits still go to the database.
+                    log.warn("Username filter rebuild failed: {}", e.getMessage());
+                }
+            });
+        }
+    }
+
+    /** Stops the rebuild thread on shutdown. */
+    @PreDestroy
+    public void shutdown() {
+        rebuilder.shutdownNow();
+    }
+
+    /** Only queries the database when the filter reports a possible match. */
+    @Override
+    public boolean isAvailable(String username) {
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(username)) return true;
+
+        return !userRepository.existsByUsername(username);
+    }
+
+    /** Adds the username to the live filter and to any filter currently being rebuilt. */
+    @Override
+    public void recordUsername(String username) {
+        BloomFilter current = filter;
+        if (current != null) current.put(username);
+
+        BloomFilter next = building;
+        if (next != null) next.put(username);
+    }
+}
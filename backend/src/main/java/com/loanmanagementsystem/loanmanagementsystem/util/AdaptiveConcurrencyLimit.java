@@ -0,0 +1,132 @@
+package com.loanmanagementsystem.loanmanagementsystem.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency limit that adapts to observed latency (gradient style).
+ * A fast-moving average of request latency is compared against a baseline that follows latency
+ * down immediately but up only by a few percent per second, so sustained overload is not mistaken
+ * for the new normal regardless of request rate: while the two agree the limit grows by about sqrt(limit)
+ * per adjustment; when recent latency rises above the baseline (requests are queueing somewhere)
+ * the limit shrinks proportionally. Failures (5xx, exceptions) cut the limit multiplicatively.
+ */
+public class AdaptiveConcurrencyLimit {
+
+    /** Fraction of the limit kept after a failed request. */
+    private static final double BACKOFF_RATIO = 0.9;
+
+    /** Recent latency may exceed the baseline by this factor before the limit shrinks. */
+    private static final double RTT_TOLERANCE = 1.5;
+
+    /** Weight of a new sample in the recent latency average. */
+    private static final double SHORT_WEIGHT = 0.1;
+
+    /** Fraction per second by which the baseline may rise toward higher recent latency. */
+    private static final double BASELINE_DRIFT_PER_SECOND = 0.02;
+
+    /** Bounds of the limit. */
+    private final int minLimit;
+    private final int maxLimit;
+
+    /** Weight of each new limit estimate. */
+    private final double smoothing;
+
+    /** Requests currently admitted. */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    /** Current integral limit read by the admission path. */
+    private volatile int limit;
+
+    /** Estimate state, guarded by this. */
+    private double estimatedLimit;
+    private double shortRttNanos;
+    private double longRttNanos;
+    private long lastSampleNanos;
+
+    /** Counters. */
+    private final AtomicLong accepted = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double smoothing) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Require 1 <= minLimit <= maxLimit");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.smoothing = smoothing;
+        this.estimatedLimit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.limit = (int) estimatedLimit;
+    }
+
+    /** Admits a request; returns its start time for {@link #release}, or -1 when the limit is reached. */
+    public long tryAcquire() {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                rejected.incrementAndGet();
+                return -1;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+
+        accepted.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /** Ends an admitted request and feeds its latency (or failure) into the limit. */
+    public void release(long startNanos, boolean failure) {
+        int inFlightAtEnd = inFlight.getAndDecrement();
+        if (failure) failed.incrementAndGet();
+        update(System.nanoTime() - startNanos, inFlightAtEnd, failure);
+    }
+
+    /** Adjusts the limit from one sample. */
+    private synchronized void update(long rttNanos, int inFlightAtEnd, boolean failure) {
+        if (failure) {
+            setEstimate(estimatedLimit * BACKOFF_RATIO);
+            return;
+        }
+
+        shortRttNanos = (shortRttNanos == 0) ? rttNanos : shortRttNanos + SHORT_WEIGHT * (rttNanos - shortRttNanos);
+        long now = System.nanoTime();
+        if (longRttNanos == 0 || shortRttNanos < longRttNanos) {
+            longRttNanos = shortRttNanos;
+        } else {
+            double elapsedSeconds = (now - lastSampleNanos) / 1_000_000_000.0;
+            longRttNanos = Math.min(shortRttNanos, longRttNanos * (1 + BASELINE_DRIFT_PER_SECOND * elapsedSeconds));
+        }
+        lastSampleNanos = now;
+
+        // Too little traffic to tell whether the limit is too low; do not grow it blindly.
+        if (inFlightAtEnd < estimatedLimit / 2) return;
+
+        double gradient = Math.max(0.5, Math.min(1.0, RTT_TOLERANCE * longRttNanos / shortRttNanos));
+        double target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        setEstimate(estimatedLimit * (1 - smoothing) + target * smoothing);
+    }
+
+    /** Clamps and publishes a new estimate; caller holds the lock. */
+    private void setEstimate(double value) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, value));
+        limit = (int) estimatedLimit;
+    }
+
+    /** Point-in-time metrics. */
+    public synchronized Stats stats() {
+        return new Stats(limit, inFlight.get(), accepted.get(), rejected.get(), failed.get(),
+                shortRttNanos / 1_000_000.0, longRttNanos / 1_000_000.0);
+    }
+
+    /** Limiter metrics exposed to admins. */
+    public record Stats(
+            int limit,
+            int inFlight,
+            long accepted,
+            long rejected,
+            long failed,
+            double recentLatencyMs,
+            double baselineLatencyMs
+    ) {}
+}
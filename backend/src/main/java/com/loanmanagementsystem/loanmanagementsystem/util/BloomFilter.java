@@ -0,0 +1,94 @@
+package com.loanmanagementsystem.loanmanagementsystem.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter for strings.
+ * A negative answer is definitive; a positive answer may be a false positive.
+ */
+public class BloomFilter {
+
+    /** Bit set backing the filter, packed into 64-bit words. */
+    private final AtomicLongArray words;
+
+    /** Number of addressable bits. */
+    private final long bitCount;
+
+    /** Number of hash probes per element. */
+    private final int hashCount;
+
+    /** Sizes the filter for the expected element count and target false-positive rate. */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("Expected insertions must be positive");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+
+        long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int words = (int) Math.min(Integer.MAX_VALUE - 8, (bits + 63) / 64);
+
+        this.words = new AtomicLongArray(Math.max(1, words));
+        this.bitCount = (long) this.words.length() * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /** Records a value in the filter. */
+    public void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            setBit(index(h1 + i * h2));
+        }
+    }
+
+    /** Returns false if the value was definitely never added, true if it might have been. */
+    public boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+
+        for (int i = 1; i <= hashCount; i++) {
+            long bit = index(h1 + i * h2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    /** Maps a combined hash onto the bit range. */
+    private long index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /** Sets a bit using a CAS loop so concurrent writers never lose updates. */
+    private void setBit(long bit) {
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) return;
+        } while (!words.compareAndSet(word, current, current | mask));
+    }
+
+    /** FNV-1a over UTF-8 bytes followed by a MurmurHash3 finalizer for good bit dispersion. */
+    private static long hash64(String value) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            h ^= (b & 0xff);
+            h *= 0x100000001b3L;
+        }
+
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
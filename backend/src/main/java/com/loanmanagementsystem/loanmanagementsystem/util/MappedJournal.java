@@ -0,0 +1,331 @@
+package com.loanmanagementsystem.loanmanagementsystem.util;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only journal of length-prefixed, CRC-checked records in memory-mapped segment files.
+ * Appends are serialized and each forces only its own bytes to disk before returning. A single
+ * reader consumes records in order and commits progress with {@link #checkpoint}; segments wholly
+ * before the checkpoint are deleted. On open the newest segment is scanned and a torn final record
+ * (crash mid-append, so nothing follows it) is discarded, so readers only ever see complete records. Reads verify each
+ * record's CRC and hand damaged records to the caller flagged as not intact instead of skipping them.
+ */
+public class MappedJournal implements AutoCloseable {
+
+    /** Record header: payload length, then CRC32 of the payload. A zero length marks the end of a segment. */
+    private static final int HEADER_BYTES = 8;
+
+    /** Checkpoint file content: segment, offset, CRC32 of both. */
+    private static final int CHECKPOINT_BYTES = 16;
+
+    /** Checkpoint file name. */
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    /** Segment file name pattern. */
+    private static final String SEGMENT_FORMAT = "segment-%020d.log";
+
+    /** Journal directory. */
+    private final Path dir;
+
+    /** Size of newly created segments. */
+    private final int segmentBytes;
+
+    /** Mapped segments by sequence number. */
+    private final ConcurrentSkipListMap<Long, MappedByteBuffer> segments = new ConcurrentSkipListMap<>();
+
+    /** Serializes checkpoint writes without blocking appends. */
+    private final Object checkpointLock = new Object();
+
+    /** Where the next record goes; published after the record's bytes are in place. */
+    private volatile Position writePosition;
+
+    /** Everything before this has been consumed. */
+    private volatile Position checkpoint;
+
+    /** Set on close; appends are refused afterwards. */
+    private boolean closed;
+
+    public MappedJournal(Path dir, int segmentBytes) throws IOException {
+        if (segmentBytes < HEADER_BYTES + 1) throw new IllegalArgumentException("Segment too small");
+        this.dir = dir;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(dir);
+
+        List<Long> existing = listSegments();
+        Position saved = readCheckpoint();
+        if (saved == null) saved = new Position(existing.isEmpty() ? 0 : existing.get(0), 0);
+        this.checkpoint = saved;
+
+        for (long seq : existing) {
+            if (seq < saved.segment()) {
+                Files.deleteIfExists(segmentPath(seq));
+            } else {
+                segments.put(seq, map(seq, false));
+            }
+        }
+        if (segments.isEmpty()) segments.put(saved.segment(), map(saved.segment(), true));
+
+        long last = segments.lastKey();
+        this.writePosition = recoverEnd(last, (last == saved.segment()) ? saved.offset() : 0);
+    }
+
+    /** Appends a record and forces it to disk; returns the record's position. */
+    public Position append(byte[] payload) {
+        int recordBytes = HEADER_BYTES + payload.length;
+        if (recordBytes > segmentBytes) {
+            throw new IllegalArgumentException("Record of " + payload.length + " bytes exceeds the segment size");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        MappedByteBuffer segment;
+        Position position;
+        synchronized (this) {
+            if (closed) throw new IllegalStateException("Journal is closed");
+
+            position = writePosition;
+            segment = segments.get(position.segment());
+            if (position.offset() + recordBytes > segment.capacity()) {
+                position = new Position(position.segment() + 1, 0);
+                segment = mapUnchecked(position.segment());
+                segments.put(position.segment(), segment);
+            }
+
+            // Length goes in last: until then the slot still reads as end-of-segment.
+            segment.duplicate().position(position.offset() + HEADER_BYTES).put(payload);
+            segment.putInt(position.offset() + 4, (int) crc.getValue());
+            segment.putInt(position.offset(), payload.length);
+            writePosition = new Position(position.segment(), position.offset() + recordBytes);
+        }
+
+        segment.force(position.offset(), recordBytes);
+        return position;
+    }
+
+    /**
+     * Reads up to max complete records starting at the given position. A record whose CRC does not
+     * match is returned with intact=false. A length that runs past the segment cannot be trusted to
+     * find the next record, so the rest of the segment is returned as one record that is not intact.
+     */
+    public List<Record> read(Position from, int max) {
+        List<Record> records = new ArrayList<>();
+        Position end = writePosition;
+        Position position = from;
+        CRC32 crc = new CRC32();
+
+        while (records.size() < max && position.compareTo(end) < 0) {
+            MappedByteBuffer segment = segments.get(position.segment());
+            if (segment == null) throw new IllegalStateException("Journal segment " + position.segment() + " is missing");
+
+            int length = (position.offset() + HEADER_BYTES <= segment.capacity()) ? segment.getInt(position.offset()) : 0;
+            if (length <= 0) {
+                position = new Position(position.segment() + 1, 0);
+                continue;
+            }
+
+            if ((long) position.offset() + HEADER_BYTES + length > segment.capacity()) {
+                byte[] rest = new byte[segment.capacity() - position.offset()];
+                segment.duplicate().position(position.offset()).get(rest);
+                Position next = (position.segment() == end.segment()) ? end : new Position(position.segment() + 1, 0);
+                records.add(new Record(position, next, rest, false));
+                position = next;
+                continue;
+            }
+
+            byte[] payload = new byte[length];
+            segment.duplicate().position(position.offset() + HEADER_BYTES).get(payload);
+            crc.reset();
+            crc.update(payload);
+            boolean intact = (int) crc.getValue() == segment.getInt(position.offset() + 4);
+
+            Position next = new Position(position.segment(), position.offset() + HEADER_BYTES + length);
+            records.add(new Record(position, next, payload, intact));
+            position = next;
+        }
+        return records;
+    }
+
+    /** Durably records that everything before the position is consumed and deletes finished segments. */
+    public void checkpoint(Position upTo) throws IOException {
+        synchronized (checkpointLock) {
+            ByteBuffer content = ByteBuffer.allocate(CHECKPOINT_BYTES);
+            content.putLong(upTo.segment()).putInt(upTo.offset());
+            CRC32 crc = new CRC32();
+            crc.update(content.array(), 0, CHECKPOINT_BYTES - 4);
+            content.putInt((int) crc.getValue()).flip();
+
+            Path tmp = dir.resolve(CHECKPOINT_FILE + ".tmp");
+            try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (content.hasRemaining()) channel.write(content);
+                channel.force(true);
+            }
+            try {
+                Files.move(tmp, dir.resolve(CHECKPOINT_FILE), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, dir.resolve(CHECKPOINT_FILE), StandardCopyOption.REPLACE_EXISTING);
+            }
+            forceDirectory();
+            checkpoint = upTo;
+
+            for (Long seq : new ArrayList<>(segments.headMap(upTo.segment()).keySet())) {
+                segments.remove(seq);
+                Files.deleteIfExists(segmentPath(seq));
+            }
+        }
+    }
+
+    /** Position up to which records have been consumed. */
+    public Position checkpointPosition() {
+        return checkpoint;
+    }
+
+    /** Position of the next append. */
+    public Position writePosition() {
+        return writePosition;
+    }
+
+    /** Number of segment files currently kept. */
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /** Forces all segments and refuses further appends. */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+        closed = true;
+        segments.values().forEach(MappedByteBuffer::force);
+    }
+
+    /** Scans a segment from a known-good offset and returns the end of its last complete record. */
+    private Position recoverEnd(long seq, int offset) {
+        MappedByteBuffer segment = segments.get(seq);
+        CRC32 crc = new CRC32();
+
+        while (offset + HEADER_BYTES <= segment.capacity()) {
+            int length = segment.getInt(offset);
+            if (length <= 0) break;
+            if (offset + HEADER_BYTES + length > segment.capacity()) {
+                wipe(segment, offset, segment.capacity());
+                break;
+            }
+
+            byte[] payload = new byte[length];
+            segment.duplicate().position(offset + HEADER_BYTES).get(payload);
+            crc.reset();
+            crc.update(payload);
+            int end = offset + HEADER_BYTES + length;
+            if ((int) crc.getValue() != segment.getInt(offset + 4) && !followedByRecord(segment, end)) {
+                wipe(segment, offset, end);
+                break;
+            }
+            // A damaged record with records after it is not a torn append; readers report it.
+            offset = end;
+        }
+        return new Position(seq, offset);
+    }
+
+    /** True when another record starts at the offset; appends are serialized, so only the last record can be torn. */
+    private static boolean followedByRecord(MappedByteBuffer segment, int offset) {
+        return offset + HEADER_BYTES <= segment.capacity() && segment.getInt(offset) > 0;
+    }
+
+    /** Zeroes a torn record so it can never be mistaken for data after later appends. */
+    private static void wipe(MappedByteBuffer segment, int from, int to) {
+        for (int i = from; i < to; i++) segment.put(i, (byte) 0);
+        segment.force();
+    }
+
+    /** Segment sequence numbers present on disk, ascending. */
+    private List<Long> listSegments() throws IOException {
+        List<Long> seqs = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, "segment-*.log")) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                seqs.add(Long.parseLong(name.substring("segment-".length(), name.length() - ".log".length())));
+            }
+        }
+        seqs.sort(null);
+        return seqs;
+    }
+
+    /** Saved checkpoint, or null when missing or unreadable (then everything on disk is replayed). */
+    private Position readCheckpoint() throws IOException {
+        Path file = dir.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) return null;
+
+        byte[] bytes = Files.readAllBytes(file);
+        if (bytes.length != CHECKPOINT_BYTES) return null;
+
+        ByteBuffer content = ByteBuffer.wrap(bytes);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, CHECKPOINT_BYTES - 4);
+        Position position = new Position(content.getLong(), content.getInt());
+        return ((int) crc.getValue() == content.getInt()) ? position : null;
+    }
+
+    /** Maps an existing segment at its own size, or creates a new one of the configured size. */
+    private MappedByteBuffer map(long seq, boolean create) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(segmentPath(seq).toFile(), "rw")) {
+            if (create || file.length() == 0) file.setLength(segmentBytes);
+            return file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, file.length());
+        }
+    }
+
+    /** Creates the next segment during an append. */
+    private MappedByteBuffer mapUnchecked(long seq) {
+        try {
+            MappedByteBuffer segment = map(seq, true);
+            forceDirectory();
+            return segment;
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create journal segment " + seq, e);
+        }
+    }
+
+    /** Makes file creations and renames in the directory durable (no-op where unsupported). */
+    private void forceDirectory() {
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+            // Some platforms cannot open directories; file contents are still forced.
+        }
+    }
+
+    /** Path of a segment file. */
+    private Path segmentPath(long seq) {
+        return dir.resolve(String.format(SEGMENT_FORMAT, seq));
+    }
+
+    /** Location in the journal: segment sequence number and byte offset. */
+    public record Position(long segment, int offset) implements Comparable<Position> {
+
+        @Override
+        public int compareTo(Position other) {
+            int bySegment = Long.compare(segment, other.segment);
+            return (bySegment != 0) ? bySegment : Integer.compare(offset, other.offset);
+        }
+    }
+
+    /**
+     * One record, with its own position and the position after it (the checkpoint once consumed).
+     * intact is false when the payload failed its CRC check.
+     */
+    public record Record(Position position, Position next, byte[] payload, boolean intact) {}
+}
@@ -0,0 +1,79 @@
+package com.loanmanagementsystem.loanmanagementsystem.util;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free ring buffer for many producers and a single consumer.
+ * Producers claim a sequence with CAS and then publish into the slot; the consumer reads slots in
+ * sequence order and stops at the first one not yet published.
+ */
+public class MpscRingBuffer<T> {
+
+    /** Slots; null means empty or claimed but not yet published. */
+    private final AtomicReferenceArray<T> slots;
+
+    /** capacity - 1; capacity is a power of two. */
+    private final int mask;
+
+    /** Next sequence to claim (producers). */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** Next sequence to read (written only by the consumer). */
+    private final AtomicLong head = new AtomicLong();
+
+    /** Rounds the capacity up to a power of two. */
+    public MpscRingBuffer(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive");
+
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /** Adds an element; returns false without blocking when the buffer is full. */
+    public boolean offer(T element) {
+        if (element == null) throw new NullPointerException("element");
+
+        long seq;
+        do {
+            seq = tail.get();
+            if (seq - head.get() >= slots.length()) return false;
+        } while (!tail.compareAndSet(seq, seq + 1));
+
+        slots.lazySet((int) (seq & mask), element);
+        return true;
+    }
+
+    /** Moves up to max published elements into the target; consumer thread only. */
+    public int drainTo(List<T> target, int max) {
+        long seq = head.get();
+        int drained = 0;
+
+        while (drained < max) {
+            int index = (int) (seq & mask);
+            T element = slots.get(index);
+            if (element == null) break;
+
+            // Clear the slot before advancing head so producers never overwrite an unread element.
+            slots.lazySet(index, null);
+            target.add(element);
+            seq++;
+            drained++;
+        }
+
+        head.lazySet(seq);
+        return drained;
+    }
+
+    /** Approximate number of claimed elements not yet consumed. */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    /** Slot count. */
+    public int capacity() {
+        return slots.length();
+    }
+}
@@ -0,0 +1,255 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Rewrites loan_application and loan_application_archive to compact column types:
+ * status, employment_type and eligibility_decision become smallint codes, and amount,
+ * monthly_income and monthly_debt become NUMERIC(14,2).
+ *
+ * Runs outside a single transaction so existing rows are converted in small committed batches:
+ * new columns are added, a trigger keeps them in sync with writes made during the backfill,
+ * rows are touched in id-range batches, indexes and the status check on the new columns are built
+ * without blocking writes (CREATE INDEX CONCURRENTLY, NOT VALID), and finally the columns are
+ * swapped under a short exclusive lock that only drops and renames. The check is validated after
+ * the lock is released. Table, index and average row sizes are logged before and after; dropped
+ * columns keep their disk space until the table is rewritten (VACUUM FULL or pg_repack).
+ *
+ * Codes here are fixed copies of the Java enums at the time of writing and must not change.
+ */
+@Slf4j
+public class V7__compact_loan_columns extends BaseJavaMigration {
+
+    /** Tables sharing the loan column layout. */
+    private static final List<String> TABLES = List.of("loan_application", "loan_application_archive");
+
+    /** Rows rewritten per committed batch. */
+    private static final int BATCH_SIZE = 10_000;
+
+    /** Keeps the new columns in sync with inserts and updates until the swap. */
+    private static final String SYNC_FUNCTION = """
+            CREATE OR REPLACE FUNCTION loan_compact_columns_sync() RETURNS trigger AS $$
+            BEGIN
+                NEW.status_code := CASE NEW.status
+                    WHEN 'SUBMITTED' THEN 1 WHEN 'APPROVED' THEN 2 WHEN 'REJECTED' THEN 3 END;
+                NEW.employment_type_code := CASE
+                    WHEN NEW.employment_type IS NULL OR btrim(NEW.employment_type) = '' THEN NULL
+                    ELSE CASE upper(replace(replace(btrim(NEW.employment_type), '-', '_'), ' ', '_'))
+                        WHEN 'SALARIED' THEN 1 WHEN 'SELF_EMPLOYED' THEN 2
+                        WHEN 'STUDENT' THEN 3 WHEN 'UNEMPLOYED' THEN 4 ELSE 0 END
+                    END;
+                NEW.eligibility_decision_code := CASE NEW.eligibility_decision
+                    WHEN 'ELIGIBLE' THEN 1 WHEN 'REVIEW' THEN 2 WHEN 'REJECT' THEN 3 END;
+                NEW.amount_fixed := round(NEW.amount::numeric, 2);
+                NEW.monthly_income_fixed := round(NEW.monthly_income::numeric, 2);
+                NEW.monthly_debt_fixed := round(NEW.monthly_debt::numeric, 2);
+                RETURN NEW;
+            END;
+            $$ LANGUAGE plpgsql
+            """;
+
+    /** Final names and definitions (on the new columns) of the loan_application indexes rebuilt by the swap. */
+    private static final String[][] LOAN_INDEXES = {
+            {"idx_loan_application_status_created_at", "(status_code, created_at)"},
+            {"idx_loan_application_queue_risk", "(risk_score DESC NULLS LAST, id) WHERE status_code = 1"},
+            {"idx_loan_application_queue_age", "(created_at, id) WHERE status_code = 1"},
+            {"idx_loan_application_auto_decision", "(eligibility_decision_code, risk_score, id) WHERE status_code = 1"},
+    };
+
+    /** Suffix of indexes built ahead of the swap; removed by a rename inside it. */
+    private static final String PENDING_SUFFIX = "_compact";
+
+    /** Old columns and the new columns that replace them. */
+    private static final String[][] REPLACEMENTS = {
+            {"status", "status_code"},
+            {"employment_type", "employment_type_code"},
+            {"eligibility_decision", "eligibility_decision_code"},
+            {"amount", "amount_fixed"},
+            {"monthly_income", "monthly_income_fixed"},
+            {"monthly_debt", "monthly_debt_fixed"},
+    };
+
+    /** Converts rows batch by batch; each step commits on its own. */
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection con = context.getConnection();
+        boolean autoCommit = con.getAutoCommit();
+        con.setAutoCommit(true);
+
+        try {
+            execute(con, SYNC_FUNCTION);
+
+            for (String table : TABLES) {
+                if (!columnExists(con, table, "status") || isConverted(con, table)) continue;
+
+                Size before = measure(con, table);
+                prepare(con, table);
+                backfill(con, table);
+                buildIndexes(con, table);
+                swap(con, table);
+                execute(con, "ALTER TABLE " + table + " VALIDATE CONSTRAINT " + table + "_status_check");
+                Size after = measure(con, table);
+
+                log.info("{}: {} rows; avg row {} -> {} bytes; heap {} -> {} bytes; indexes {} -> {} bytes",
+                        table, after.rows(), before.avgRowBytes(), after.avgRowBytes(),
+                        before.heapBytes(), after.heapBytes(), before.indexBytes(), after.indexBytes());
+            }
+
+            execute(con, "DROP FUNCTION IF EXISTS loan_compact_columns_sync()");
+        } finally {
+            con.setAutoCommit(autoCommit);
+        }
+    }
+
+    /** Adds the new columns and the sync trigger (idempotent, so a failed run can be repeated). */
+    private void prepare(Connection con, String table) throws SQLException {
+        execute(con, "ALTER TABLE " + table
+                + " ADD COLUMN IF NOT EXISTS status_code SMALLINT,"
+                + " ADD COLUMN IF NOT EXISTS employment_type_code SMALLINT,"
+                + " ADD COLUMN IF NOT EXISTS eligibility_decision_code SMALLINT,"
+                + " ADD COLUMN IF NOT EXISTS amount_fixed NUMERIC(14,2),"
+                + " ADD COLUMN IF NOT EXISTS monthly_income_fixed NUMERIC(14,2),"
+                + " ADD COLUMN IF NOT EXISTS monthly_debt_fixed NUMERIC(14,2)");
+        execute(con, "DROP TRIGGER IF EXISTS " + table + "_compact_sync ON " + table);
+        execute(con, "CREATE TRIGGER " + table + "_compact_sync BEFORE INSERT OR UPDATE ON " + table
+                + " FOR EACH ROW EXECUTE FUNCTION loan_compact_columns_sync()");
+    }
+
+    /** Touches every existing row in id-range batches so the trigger fills the new columns. */
+    private void backfill(Connection con, String table) throws SQLException {
+        long minId;
+        long maxId;
+        try (Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery("SELECT coalesce(min(id), 0), coalesce(max(id), 0) FROM " + table)) {
+            rs.next();
+            minId = rs.getLong(1);
+            maxId = rs.getLong(2);
+        }
+
+        long updated = 0;
+        try (PreparedStatement ps = con.prepareStatement(
+                "UPDATE " + table + " SET status = status WHERE id >= ? AND id < ?")) {
+            for (long from = minId; from <= maxId; from += BATCH_SIZE) {
+                ps.setLong(1, from);
+                ps.setLong(2, from + BATCH_SIZE);
+                updated += ps.executeUpdate();
+            }
+        }
+        log.info("{}: backfilled {} rows in batches of {}", table, updated, BATCH_SIZE);
+    }
+
+    /**
+     * Builds the indexes and the status check on the new columns while writes continue; the trigger
+     * keeps the columns filled, so the indexes are complete when the swap starts. An index left
+     * invalid by an earlier failed run is dropped and built again.
+     */
+    private void buildIndexes(Connection con, String table) throws SQLException {
+        if (table.equals("loan_application")) {
+            for (String[] index : LOAN_INDEXES) {
+                String name = index[0] + PENDING_SUFFIX;
+                execute(con, "DROP INDEX CONCURRENTLY IF EXISTS " + name);
+                execute(con, "CREATE INDEX CONCURRENTLY " + name + " ON loan_application " + index[1]);
+            }
+        }
+        execute(con, "ALTER TABLE " + table + " DROP CONSTRAINT IF EXISTS " + table + "_status_code_check");
+        execute(con, "ALTER TABLE " + table + " ADD CONSTRAINT " + table
+                + "_status_code_check CHECK (status_code BETWEEN 1 AND 3) NOT VALID");
+    }
+
+    /**
+     * Replaces the old columns with the new ones in one short transaction. Only catalog changes run
+     * under the exclusive lock: the prebuilt indexes and check follow the column renames and just
+     * take their final names.
+     */
+    private void swap(Connection con, String table) throws SQLException {
+        con.setAutoCommit(false);
+        try {
+            execute(con, "LOCK TABLE " + table + " IN ACCESS EXCLUSIVE MODE");
+            execute(con, "DROP TRIGGER IF EXISTS " + table + "_compact_sync ON " + table);
+
+            // Dropping a column also drops the indexes and check constraints that reference it.
+            for (String[] r : REPLACEMENTS) {
+                execute(con, "ALTER TABLE " + table + " DROP COLUMN " + r[0]);
+                execute(con, "ALTER TABLE " + table + " RENAME COLUMN " + r[1] + " TO " + r[0]);
+            }
+            execute(con, "ALTER TABLE " + table + " RENAME CONSTRAINT " + table
+                    + "_status_code_check TO " + table + "_status_check");
+
+            if (table.equals("loan_application")) {
+                for (String[] index : LOAN_INDEXES) {
+                    execute(con, "ALTER INDEX " + index[0] + PENDING_SUFFIX + " RENAME TO " + index[0]);
+                }
+            }
+
+            con.commit();
+        } catch (SQLException e) {
+            con.rollback();
+            throw e;
+        } finally {
+            con.setAutoCommit(true);
+        }
+    }
+
+    /** True when the status column already has the compact type. */
+    private boolean isConverted(Connection con, String table) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("""
+                SELECT data_type FROM information_schema.columns
+                WHERE table_schema = current_schema() AND table_name = ? AND column_name = 'status'
+                """)) {
+            ps.setString(1, table);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() && rs.getString(1).equals("smallint");
+            }
+        }
+    }
+
+    /** True when the column exists (tables created by a newer Hibernate schema may already differ). */
+    private boolean columnExists(Connection con, String table, String column) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement("""
+                SELECT 1 FROM information_schema.columns
+                WHERE table_schema = current_schema() AND table_name = ? AND column_name = ?
+                """)) {
+            ps.setString(1, table);
+            ps.setString(2, column);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next();
+            }
+        }
+    }
+
+    /** Row count, average logical row width, and on-disk heap and index sizes. */
+    private Size measure(Connection con, String table) throws SQLException {
+        try (Statement st = con.createStatement();
+             ResultSet rs = st.executeQuery("SELECT count(*), coalesce(avg(pg_column_size(t.*)), 0)::bigint,"
+                     + " pg_relation_size('" + table + "'), pg_indexes_size('" + table + "')"
+                     + " FROM " + table + " t")) {
+            rs.next();
+            return new Size(rs.getLong(1), rs.getLong(2), rs.getLong(3), rs.getLong(4));
+        }
+    }
+
+    /** Runs one statement. */
+    private static void execute(Connection con, String sql) throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute(sql);
+        }
+    }
+
+    /** Storage measurements of one table. */
+    private record Size(long rows, long avgRowBytes, long heapBytes, long indexBytes) {}
+}
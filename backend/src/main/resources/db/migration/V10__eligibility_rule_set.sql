@@ -0,0 +1,13 @@
+-- Named eligibility rule sets. Exactly one is ACTIVE and decides live applications; CHALLENGER
+-- sets are shadow-scored for comparison. Rules are stored as JSON so thresholds can change
+-- without a migration.
+CREATE TABLE IF NOT EXISTS eligibility_rule_set (
+    name        VARCHAR(64) PRIMARY KEY,
+    rules       TEXT NOT NULL,
+    role        VARCHAR(16) NOT NULL,
+    updated_at  TIMESTAMP(6) NOT NULL,
+    updated_by  VARCHAR(255)
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_eligibility_rule_set_active
+    ON eligibility_rule_set (role) WHERE role = 'ACTIVE';
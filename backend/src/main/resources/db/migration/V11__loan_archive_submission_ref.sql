@@ -0,0 +1,9 @@
+-- Archived loans keep their submission id, so submission lookups still resolve after archival.
+ALTER TABLE loan_application_archive ADD COLUMN IF NOT EXISTS submission_ref VARCHAR(36);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_loan_application_archive_submission_ref
+    ON loan_application_archive (submission_ref);
+
+-- Owner-scoped "my loans" keyset pages over the archive, matching idx_loan_application_user_id_id.
+CREATE INDEX IF NOT EXISTS idx_loan_application_archive_user_id_id
+    ON loan_application_archive (user_id, id);
@@ -0,0 +1,29 @@
+-- Baseline schema matching the entities as previously created by ddl-auto=update.
+-- IF NOT EXISTS lets existing databases adopt migrations via baseline-on-migrate.
+
+CREATE TABLE IF NOT EXISTS users (
+    id       BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) NOT NULL UNIQUE,
+    password VARCHAR(255),
+    role     VARCHAR(255) CHECK (role IN ('ADMIN', 'ANALYST', 'CUSTOMER')),
+    active   BOOLEAN NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS loan_application (
+    id                   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    amount               FLOAT(53),
+    interest_rate        FLOAT(53),
+    tenure               INTEGER,
+    status               VARCHAR(255) CHECK (status IN ('SUBMITTED', 'APPROVED', 'REJECTED')),
+    created_at           TIMESTAMP(6),
+    full_name            VARCHAR(255),
+    monthly_income       FLOAT(53),
+    monthly_debt         FLOAT(53),
+    credit_score         INTEGER,
+    employment_type      VARCHAR(255),
+    purpose              VARCHAR(255),
+    dti                  FLOAT(53),
+    risk_score           INTEGER,
+    eligibility_decision VARCHAR(255),
+    user_id              BIGINT REFERENCES users (id)
+);
@@ -0,0 +1,24 @@
+-- Hot/archive split: decided applications past the retention age move here in batches.
+CREATE TABLE IF NOT EXISTS loan_application_archive (
+    id                   BIGINT PRIMARY KEY,
+    amount               FLOAT(53),
+    interest_rate        FLOAT(53),
+    tenure               INTEGER,
+    status               VARCHAR(255) CHECK (status IN ('SUBMITTED', 'APPROVED', 'REJECTED')),
+    created_at           TIMESTAMP(6),
+    full_name            VARCHAR(255),
+    monthly_income       FLOAT(53),
+    monthly_debt         FLOAT(53),
+    credit_score         INTEGER,
+    employment_type      VARCHAR(255),
+    purpose              VARCHAR(255),
+    dti                  FLOAT(53),
+    risk_score           INTEGER,
+    eligibility_decision VARCHAR(255),
+    user_id              BIGINT REFERENCES users (id),
+    archived_at          TIMESTAMP(6)
+);
+
+-- Serves status-filtered lists sorted by creation time and the archival scan.
+CREATE INDEX IF NOT EXISTS idx_loan_application_status_created_at
+    ON loan_application (status, created_at);
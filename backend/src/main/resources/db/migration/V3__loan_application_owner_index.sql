@@ -0,0 +1,3 @@
+-- Owner-scoped "my loans" keyset pages: WHERE user_id = ? AND id < ? ORDER BY id DESC.
+CREATE INDEX IF NOT EXISTS idx_loan_application_user_id_id
+    ON loan_application (user_id, id);
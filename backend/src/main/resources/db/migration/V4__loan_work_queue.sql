@@ -0,0 +1,9 @@
+-- Analyst work queue: claim owner and lease expiry on hot loans.
+ALTER TABLE loan_application ADD COLUMN IF NOT EXISTS claimed_by VARCHAR(255);
+ALTER TABLE loan_application ADD COLUMN IF NOT EXISTS claim_expires_at TIMESTAMP(6);
+
+-- Claim scans only ever look at SUBMITTED rows.
+CREATE INDEX IF NOT EXISTS idx_loan_application_queue_risk
+    ON loan_application (risk_score DESC NULLS LAST, id) WHERE status = 'SUBMITTED';
+CREATE INDEX IF NOT EXISTS idx_loan_application_queue_age
+    ON loan_application (created_at, id) WHERE status = 'SUBMITTED';
@@ -0,0 +1,3 @@
+-- Auto-decision scans: SUBMITTED rows by eligibility decision and risk.
+CREATE INDEX IF NOT EXISTS idx_loan_application_auto_decision
+    ON loan_application (eligibility_decision, risk_score, id) WHERE status = 'SUBMITTED';
@@ -0,0 +1,25 @@
+-- Append-only decision audit log, written in batches by the audit writer.
+CREATE TABLE IF NOT EXISTS loan_decision_audit (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    loan_id     BIGINT NOT NULL,
+    from_status VARCHAR(255) CHECK (from_status IN ('SUBMITTED', 'APPROVED', 'REJECTED')),
+    to_status   VARCHAR(255) NOT NULL CHECK (to_status IN ('SUBMITTED', 'APPROVED', 'REJECTED')),
+    actor       VARCHAR(255) NOT NULL,
+    reason      VARCHAR(255),
+    decided_at  TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_loan_decision_audit_loan_id_id
+    ON loan_decision_audit (loan_id, id);
+
+-- Entries can be added but never changed or removed.
+CREATE OR REPLACE FUNCTION loan_decision_audit_append_only() RETURNS trigger AS $$
+BEGIN
+    RAISE EXCEPTION 'loan_decision_audit is append-only';
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS loan_decision_audit_no_change ON loan_decision_audit;
+CREATE TRIGGER loan_decision_audit_no_change
+    BEFORE UPDATE OR DELETE ON loan_decision_audit
+    FOR EACH ROW EXECUTE FUNCTION loan_decision_audit_append_only();
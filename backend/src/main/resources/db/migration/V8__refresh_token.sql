@@ -0,0 +1,16 @@
+-- Rotating refresh tokens. Only SHA-256 hashes are stored; every token belongs to a family that
+-- starts at login, so a replayed (already rotated) token can revoke the whole chain.
+CREATE TABLE IF NOT EXISTS refresh_token (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash  VARCHAR(64) NOT NULL UNIQUE,
+    user_id     BIGINT NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    family_id   VARCHAR(36) NOT NULL,
+    created_at  TIMESTAMP(6) NOT NULL,
+    expires_at  TIMESTAMP(6) NOT NULL,
+    used_at     TIMESTAMP(6),
+    revoked_at  TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_refresh_token_user_id ON refresh_token (user_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_family_id ON refresh_token (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_token_expires_at ON refresh_token (expires_at);
@@ -0,0 +1,6 @@
+-- Client-visible submission id assigned before the row exists; the unique index makes
+-- write-behind journal replay idempotent (INSERT ... ON CONFLICT (submission_ref) DO NOTHING).
+ALTER TABLE loan_application ADD COLUMN IF NOT EXISTS submission_ref VARCHAR(36);
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_loan_application_submission_ref
+    ON loan_application (submission_ref);
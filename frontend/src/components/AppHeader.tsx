@@ -5,7 +5,8 @@ import EastRoundedIcon from "@mui/icons-material/EastRounded";
 import LogoutRoundedIcon from "@mui/icons-material/LogoutRounded";
 
 import logo from "../assets/logomain.png";
-import { clearAuth } from "../lib/auth/authStorage";
+import { logout } from "../lib/api/auth";
+import { clearAuth, getRefreshToken } from "../lib/auth/authStorage";
 
 type Props = {
   pageTitle?: string;
@@ -116,6 +117,7 @@ export default function AppHeader({
           {showLogout ? (
             <Button
               onClick={() => {
+                void logout(getRefreshToken());
                 clearAuth();
                 nav("/login");
               }}
@@ -22,6 +22,7 @@ import ArrowForwardRoundedIcon from "@mui/icons-material/ArrowForwardRounded";
 import { useNavigate } from "react-router-dom";
 import AppHeader from "../../../components/AppHeader";
 import { getAdminMetrics, AdminMetrics } from "../../../lib/api/admin";
+import { useLoanEventRefresh } from "../../../lib/api/stream";
 import bg from "../../../assets/homepage.png";
 
 type TileProps = {
@@ -208,6 +209,9 @@ export default function AdminDashboard() {
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, []);
 
+  // Refresh when users or loans change instead of polling.
+  useLoanEventRefresh(fetchMetrics, ["loan-created", "loans-changed", "metrics-changed", "resync"], 1000);
+
   const totalUsers = useMemo(() => {
     const c = metrics?.customers ?? 0;
     const a = metrics?.analysts ?? 0;
@@ -24,6 +24,7 @@ import {
   LoanStatus,
   LOAN_STATUS_LABEL,
 } from "../../../lib/api/loans";
+import { useLoanEventRefresh } from "../../../lib/api/stream";
 import bg from "../../../assets/homepage.png";
 
 type StatusFilter = "ALL" | LoanStatus;
@@ -130,6 +131,9 @@ export default function AnalystDashboard() {
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [statusFilter]);
 
+  // Re-fetch when loans are created or decided anywhere.
+  useLoanEventRefresh(fetchLoans, ["loan-created", "loan-status-changed", "loans-changed", "resync"]);
+
   const submittedCount = useMemo(
     () => rows.filter((r) => r.status === "SUBMITTED").length,
     [rows]
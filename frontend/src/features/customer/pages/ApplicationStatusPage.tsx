@@ -17,8 +17,13 @@ import {
   TextField,
 } from "@mui/material";
 import AppHeader from "../../../components/AppHeader";
-import client from "../../../lib/api/client";
-import { LoanApplication, LoanStatus, LOAN_STATUS_LABEL } from "../../../lib/api/loans";
+import {
+  LoanApplication,
+  LoanStatus,
+  LOAN_STATUS_LABEL,
+  listMyLoans,
+} from "../../../lib/api/loans";
+import { useLoanEventRefresh } from "../../../lib/api/stream";
 import bg from "../../../assets/homepage.png";
 
 function StatusChip({ status }: { status?: LoanStatus }) {
@@ -104,18 +109,11 @@ export default function ApplicationStatusPage() {
     setError("");
     setLoading(true);
     try {
-      const params = new URLSearchParams();
-      params.set("page", "0");
-      params.set("size", "50");
-      params.set("sortBy", "createdAt");
-      params.set("direction", "desc");
-      if (status !== "ALL") params.set("status", status);
-
-      const res = await client.get(`/api/loans?${params.toString()}`);
-
-      // Supports both Page<LoanApplication> and plain arrays.
-      const data = Array.isArray(res.data) ? res.data : res.data?.content ?? [];
-      setRows(data);
+      const data = await listMyLoans({
+        size: 50,
+        status: status === "ALL" ? undefined : status,
+      });
+      setRows(data.items);
     } catch (e: any) {
       setError(e?.response?.data?.message || "Failed to load applications");
       setRows([]);
@@ -130,6 +128,9 @@ export default function ApplicationStatusPage() {
     // eslint-disable-next-line react-hooks/exhaustive-deps
   }, [status]);
 
+  // Reload when one of the caller's loans changes.
+  useLoanEventRefresh(load, ["loan-created", "loan-status-changed", "loans-changed", "resync"]);
+
   const stats = useMemo(() => {
     const total = rows.length;
     const approved = rows.filter((r) => r.status === "APPROVED").length;
@@ -12,9 +12,10 @@ export type LoginRequest = {
   password: string;
 };
 
-/** Auth response containing token and identity info. */
+/** Auth response containing the token pair and identity info. */
 export type LoginResponse = {
   token: string;
+  refreshToken: string;
   username: string;
   role: "ADMIN" | "ANALYST" | "CUSTOMER";
 };
@@ -29,3 +30,22 @@ export async function login(payload: LoginRequest): Promise<LoginResponse> {
   const res = await client.post<LoginResponse>("/api/auth/login", payload);
   return res.data;
 }
+
+/** Revokes the refresh token's session on the server; failures are ignored. */
+export async function logout(refreshToken: string | null): Promise<void> {
+  if (!refreshToken) return;
+  try {
+    await client.post("/api/auth/logout", { refreshToken });
+  } catch {
+    // The session still ends locally; the token expires on its own.
+  }
+}
+
+/** Checks whether a username is still free before submitting signup. */
+export async function isUsernameAvailable(username: string): Promise<boolean> {
+  const res = await client.get<{ username: string; available: boolean }>(
+    "/api/auth/username-available",
+    { params: { username } }
+  );
+  return res.data.available;
+}
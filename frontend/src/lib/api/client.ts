@@ -1,4 +1,5 @@
-import axios from "axios";
+import axios, { AxiosError, InternalAxiosRequestConfig } from "axios";
+import { clearAuth, getRefreshToken, setTokens } from "../auth/authStorage";
 
 /** Shared Axios instance used for all API calls. */
 const API_BASE_URL =
@@ -19,4 +20,61 @@ client.interceptors.request.use((config) => {
   return config;
 });
 
+/** In-flight refresh shared by all requests that hit 401 at the same time. */
+let refreshing: Promise<string | null> | null = null;
+
+/**
+ * Exchanges the stored refresh token for a new token pair and returns the new access token,
+ * or null when it could not. Auth is cleared only when the server rejects the refresh token
+ * (401/403); on network errors or 5xx the tokens are kept so a later attempt can succeed.
+ * Uses a bare axios call so the 401 handler below never recurses.
+ */
+export function refreshAccessToken(): Promise<string | null> {
+  if (!refreshing) {
+    refreshing = (async () => {
+      const refreshToken = getRefreshToken();
+      if (!refreshToken) return null;
+      try {
+        const res = await axios.post(`${API_BASE_URL}/api/auth/refresh`, { refreshToken });
+        setTokens(res.data.token, res.data.refreshToken, res.data.role);
+        return res.data.token as string;
+      } catch (e) {
+        const status = axios.isAxiosError(e) ? e.response?.status : undefined;
+        if (status === 401 || status === 403) clearAuth();
+        return null;
+      }
+    })().finally(() => {
+      refreshing = null;
+    });
+  }
+  return refreshing;
+}
+
+/**
+ * On 401, refreshes once and replays the request. Sends the user to login only when the session
+ * is gone; if the refresh merely failed (server unreachable) the original error is returned.
+ */
+client.interceptors.response.use(undefined, async (error: AxiosError) => {
+  const original = error.config as (InternalAxiosRequestConfig & { _retried?: boolean }) | undefined;
+
+  if (
+    error.response?.status !== 401 ||
+    !original ||
+    original._retried ||
+    original.url?.startsWith("/api/auth/")
+  ) {
+    return Promise.reject(error);
+  }
+
+  original._retried = true;
+  const token = await refreshAccessToken();
+  if (!token) {
+    if (!getRefreshToken()) window.location.assign("/login");
+    return Promise.reject(error);
+  }
+
+  original.headers.Authorization = `Bearer ${token}`;
+  return client(original);
+});
+
 export default client;
@@ -34,11 +34,29 @@ export async function listLoans(params?: {
   sortBy?: string;
   direction?: "asc" | "desc";
   status?: LoanStatus;
+  includeArchived?: boolean;
 }) {
   const res = await client.get("/api/loans", { params });
   return res.data;
 }
 
+/** Keyset page of the caller's own loans. */
+export type OwnLoansPage = {
+  items: LoanApplication[];
+  nextCursor: number | null;
+};
+
+/** Fetches the logged-in customer's loans, newest first. */
+export async function listMyLoans(params?: {
+  before?: number;
+  size?: number;
+  status?: LoanStatus;
+  includeArchived?: boolean;
+}): Promise<OwnLoansPage> {
+  const res = await client.get<OwnLoansPage>("/api/loans/mine", { params });
+  return res.data;
+}
+
 /** Marks a loan as approved. */
 export async function approveLoan(id: number) {
   const res = await client.patch(`/api/loans/${id}/approve`);
@@ -0,0 +1,127 @@
+import { useEffect, useRef } from "react";
+import client, { refreshAccessToken } from "./client";
+import { getRefreshToken, isTokenExpiring } from "../auth/authStorage";
+import { LoanStatus } from "./loans";
+
+/** Event names pushed by /api/loans/stream. */
+export type LoanStreamEventType =
+  | "loan-created"
+  | "loan-status-changed"
+  | "loans-changed"
+  | "metrics-changed"
+  | "resync";
+
+/** Payload of a stream event; loanId/status are set for single-loan events. */
+export type LoanStreamEvent = {
+  type: LoanStreamEventType;
+  loanId?: number | null;
+  status?: LoanStatus | null;
+};
+
+/** First wait before reopening a stream the server refused; doubles on each refusal in a row. */
+const REOPEN_DELAY_MS = 3000;
+
+/** Longest wait between reopen attempts. */
+const MAX_REOPEN_DELAY_MS = 60000;
+
+/** Access tokens this close to expiry are refreshed before reopening. */
+const TOKEN_EXPIRY_MARGIN_MS = 30000;
+
+const EVENT_TYPES: LoanStreamEventType[] = [
+  "loan-created",
+  "loan-status-changed",
+  "loans-changed",
+  "metrics-changed",
+  "resync",
+];
+
+/**
+ * Opens the live loan event stream. EventSource cannot send headers, so the token
+ * goes in the query string; the browser reconnects automatically after network errors. When
+ * the server refuses the stream the browser gives up, so it is reopened here with backoff.
+ * The refusal's status is not visible to EventSource, so the token is refreshed only when it
+ * has (nearly) expired; other refusals (overload, restarts) reopen with the same token.
+ * Returns a close function.
+ */
+export function subscribeLoanEvents(onEvent: (e: LoanStreamEvent) => void): () => void {
+  if (typeof EventSource === "undefined") return () => {};
+
+  let source: EventSource | null = null;
+  let closed = false;
+  let delayMs = REOPEN_DELAY_MS;
+
+  const open = (token: string) => {
+    const url = `${client.defaults.baseURL}/api/loans/stream?access_token=${encodeURIComponent(token)}`;
+    const current = new EventSource(url);
+    source = current;
+    current.onopen = () => {
+      delayMs = REOPEN_DELAY_MS;
+    };
+
+    EVENT_TYPES.forEach((type) =>
+      current.addEventListener(type, (m) => {
+        try {
+          onEvent(JSON.parse((m as MessageEvent).data));
+        } catch {
+          onEvent({ type });
+        }
+      })
+    );
+
+    current.onerror = () => {
+      if (current.readyState !== EventSource.CLOSED || closed) return;
+      scheduleReopen();
+    };
+  };
+
+  const scheduleReopen = () => {
+    setTimeout(reopen, delayMs);
+    delayMs = Math.min(delayMs * 2, MAX_REOPEN_DELAY_MS);
+  };
+
+  const reopen = async () => {
+    if (closed) return;
+    const token = localStorage.getItem("token");
+    if (token && !isTokenExpiring(token, TOKEN_EXPIRY_MARGIN_MS)) {
+      open(token);
+      return;
+    }
+
+    const fresh = await refreshAccessToken();
+    if (closed) return;
+    if (fresh) open(fresh);
+    // Refresh failed without ending the session (server unreachable): try again later.
+    else if (getRefreshToken()) scheduleReopen();
+  };
+
+  const token = localStorage.getItem("token");
+  if (token) open(token);
+
+  return () => {
+    closed = true;
+    source?.close();
+  };
+}
+
+/** Calls refresh (debounced) whenever one of the given stream events arrives. */
+export function useLoanEventRefresh(refresh: () => void, types: LoanStreamEventType[], delayMs = 500) {
+  const refreshRef = useRef(refresh);
+  refreshRef.current = refresh;
+  const typesKey = types.join(",");
+
+  useEffect(() => {
+    const wanted = new Set(typesKey.split(","));
+    let timer: ReturnType<typeof setTimeout> | undefined;
+
+    const close = subscribeLoanEvents((e) => {
+      if (!wanted.has(e.type)) return;
+      clearTimeout(timer);
+      timer = setTimeout(() => refreshRef.current(), delayMs);
+    });
+
+    return () => {
+      clearTimeout(timer);
+      close();
+    };
+  }, [typesKey, delayMs]);
+}
@@ -2,15 +2,43 @@
 export type Role = "ADMIN" | "ANALYST" | "CUSTOMER";
 
 /** Stores auth data in localStorage after login. */
-export function setAuth(token: string, role: Role, username: string) {
+export function setAuth(token: string, role: Role, username: string, refreshToken: string) {
   localStorage.setItem("token", token);
+  localStorage.setItem("refreshToken", refreshToken);
   localStorage.setItem("role", role);
   localStorage.setItem("username", username);
 }
 
+/** Replaces the token pair after a refresh; role is updated too since it may have changed. */
+export function setTokens(token: string, refreshToken: string, role: Role) {
+  localStorage.setItem("token", token);
+  localStorage.setItem("refreshToken", refreshToken);
+  localStorage.setItem("role", role);
+}
+
+/** Returns the stored refresh token. */
+export function getRefreshToken() {
+  return localStorage.getItem("refreshToken");
+}
+
+/**
+ * True when the JWT's exp claim is within marginMs of now, or when the token cannot be read.
+ * Only a hint for when to refresh; the server still decides whether a token is valid.
+ */
+export function isTokenExpiring(token: string, marginMs = 0) {
+  try {
+    const payload = token.split(".")[1].replace(/-/g, "+").replace(/_/g, "/");
+    const { exp } = JSON.parse(atob(payload));
+    return typeof exp !== "number" || exp * 1000 - marginMs <= Date.now();
+  } catch {
+    return true;
+  }
+}
+
 /** Clears all stored auth data on logout. */
 export function clearAuth() {
   localStorage.removeItem("token");
+  localStorage.removeItem("refreshToken");
   localStorage.removeItem("role");
   localStorage.removeItem("username");
 }
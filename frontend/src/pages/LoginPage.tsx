@@ -82,7 +82,7 @@ export default function LoginPage() {
       const data = await login({ username, password });
       const role = (data.role ?? "").toString().toUpperCase().replace("ROLE_", "");
 
-      setAuth(data.token, data.role, data.username);
+      setAuth(data.token, data.role, data.username, data.refreshToken);
 
       if (role === "ADMIN") nav("/admin");
       else if (role === "ANALYST") nav("/analyst");
@@ -1,5 +1,5 @@
 // src/pages/SignupPage.tsx
-import React, { useState } from "react";
+import React, { useEffect, useState } from "react";
 import {
   Box,
   Container,
@@ -17,7 +17,7 @@ import PersonRoundedIcon from "@mui/icons-material/PersonRounded";
 import LockRoundedIcon from "@mui/icons-material/LockRounded";
 import VerifiedUserRoundedIcon from "@mui/icons-material/VerifiedUserRounded";
 
-import { register } from "../lib/api/auth";
+import { isUsernameAvailable, register } from "../lib/api/auth";
 
 import bg from "../assets/homepage.png";
 import logo from "../assets/logomain.png";
@@ -79,6 +79,29 @@ export default function SignupPage() {
   const [error, setError] = useState<string | null>(null);
   const [ok, setOk] = useState<string | null>(null);
   const [busy, setBusy] = useState(false);
+  const [taken, setTaken] = useState(false);
+
+  // Check availability once typing pauses; the server still enforces uniqueness on submit.
+  useEffect(() => {
+    const u = username.trim();
+    setTaken(false);
+    if (!u) return;
+
+    let cancelled = false;
+    const timer = setTimeout(() => {
+      isUsernameAvailable(u)
+        .then((available) => {
+          if (!cancelled) setTaken(!available);
+        })
+        .catch(() => {
+          // Unknown; let the submit decide.
+        });
+    }, 400);
+    return () => {
+      cancelled = true;
+      clearTimeout(timer);
+    };
+  }, [username]);
 
   const submit = async () => {
     setError(null);
@@ -90,6 +113,10 @@ export default function SignupPage() {
       setError("Username and password are required.");
       return;
     }
+    if (taken) {
+      setError("That username is already taken.");
+      return;
+    }
     if (password.length < 6) {
       setError("Password must be at least 6 characters.");
       return;
@@ -284,6 +311,8 @@ export default function SignupPage() {
                 onChange={(e) => setUsername(e.target.value)}
                 fullWidth
                 autoComplete="username"
+                error={taken}
+                helperText={taken ? "Username is already taken" : undefined}
               />
 
               <TextField